@@ -4,16 +4,18 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.EntityArgument;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
-import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
-import net.xelpha.sololevelingreforged.network.SyncCapabilityPacket;
+import net.xelpha.sololevelingreforged.core.SystemBenchmarks;
+import net.xelpha.sololevelingreforged.network.NetworkStats;
+
+import java.util.List;
 
 /**
  * Commands for the Solo Leveling System
@@ -21,6 +23,9 @@ import net.xelpha.sololevelingreforged.network.SyncCapabilityPacket;
 @Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
 public class SoloLevelingCommands {
 
+    // /system netstats rate windows, in seconds
+    private static final int[] NET_STATS_WINDOWS = { 1, 60, NetworkStats.HISTORY_SECONDS };
+
     @SubscribeEvent
     public static void onRegisterCommands(RegisterCommandsEvent event) {
         CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
@@ -72,12 +77,35 @@ public class SoloLevelingCommands {
                 .requires(source -> source.hasPermission(2)) // OP only
                 .executes(context -> resetPlayerLevel(context.getSource())));
 
+        // /system netstats [player] - Show mod network traffic (admin command)
+        LiteralArgumentBuilder<CommandSourceStack> netStatsCommand = Commands.literal("system")
+            .then(Commands.literal("netstats")
+                .requires(source -> source.hasPermission(2)) // OP only
+                .executes(context -> showNetworkStats(context.getSource(), null))
+                .then(Commands.argument("player", EntityArgument.player())
+                    .executes(context -> showNetworkStats(
+                        context.getSource(),
+                        EntityArgument.getPlayer(context, "player")
+                    ))));
+
+        // /system benchmark <inventory|killxp> - Time a full System Inventory fill, list scan vs index,
+        // or the per-kill cost of the kill XP handler (admin command)
+        LiteralArgumentBuilder<CommandSourceStack> benchmarkCommand = Commands.literal("system")
+            .then(Commands.literal("benchmark")
+                .requires(source -> source.hasPermission(2)) // OP only
+                .then(Commands.literal("inventory")
+                    .executes(context -> benchmarkInventory(context.getSource())))
+                .then(Commands.literal("killxp")
+                    .executes(context -> benchmarkKillExperience(context.getSource()))));
+
         dispatcher.register(infoCommand);
         dispatcher.register(giveXpCommand);
         dispatcher.register(giveApCommand);
         dispatcher.register(setLevelCommand);
         dispatcher.register(resetStatsCommand);
         dispatcher.register(resetLevelCommand);
+        dispatcher.register(netStatsCommand);
+        dispatcher.register(benchmarkCommand);
     }
 
 
@@ -123,8 +151,6 @@ public class SoloLevelingCommands {
 
         player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
             cap.addAvailableAP(amount);
-            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                new SyncCapabilityPacket(cap.serializeNBT()));
             source.sendSuccess(() -> Component.literal("Gave " + amount + " ability points to " + player.getName().getString()), true);
         });
 
@@ -138,21 +164,12 @@ public class SoloLevelingCommands {
         }
 
         player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-            // Calculate experience needed for the target level
-            int targetExp = 0;
-            for (int i = 1; i < level; i++) {
-                targetExp += (int)(100 * Math.pow(i, 1.5));
-            }
-
-            // Set level and experience
+            // Set level at the start of its XP bar - the requirement comes from the shared curve
             cap.setLevel(level);
-            cap.setExperience(targetExp);
-            cap.setExperienceToNext((int)(100 * Math.pow(level, 1.5)));
-            cap.setAvailableAP((level - 1) * 5); // 5 AP per level
+            cap.setExperience(0);
+            cap.setAvailableAP((cap.getLevel() - 1) * 5); // 5 AP per level
 
-            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                new SyncCapabilityPacket(cap.serializeNBT()));
-            source.sendSuccess(() -> Component.literal("Set " + player.getName().getString() + " to level " + level), true);
+            source.sendSuccess(() -> Component.literal("Set " + player.getName().getString() + " to level " + cap.getLevel()), true);
         });
 
         return 1;
@@ -183,8 +200,6 @@ public class SoloLevelingCommands {
             cap.updateMaxHealth();
             cap.updateMaxMana();
 
-            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                new SyncCapabilityPacket(cap.serializeNBT()));
             source.sendSuccess(() -> Component.literal("Reset all stats for " + player.getName().getString() + " and refunded " + refundedAP + " AP"), true);
         });
 
@@ -204,14 +219,75 @@ public class SoloLevelingCommands {
             // Reset to level 1
             cap.setLevel(1);
             cap.setExperience(0);
-            cap.setExperienceToNext(100);
             cap.setAvailableAP(0); // Start with 0 AP, can earn through leveling
 
-            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                new SyncCapabilityPacket(cap.serializeNBT()));
             source.sendSuccess(() -> Component.literal("Reset " + player.getName().getString() + " to level 1 (was level " + oldLevel + ")"), true);
         });
 
         return 1;
     }
-}
\ No newline at end of file
+
+    private static int showNetworkStats(CommandSourceStack source, ServerPlayer target) {
+        NetworkStats.Counters counters = target != null
+            ? NetworkStats.getPlayer(target.getUUID())
+            : NetworkStats.getTotal();
+
+        String scope = target != null ? target.getName().getString() : "all players";
+        source.sendSuccess(() -> Component.literal("=== NETWORK STATS (" + scope + ") ==="), false);
+        if (counters == null) {
+            source.sendSuccess(() -> Component.literal("No traffic recorded"), false);
+            return 1;
+        }
+        source.sendSuccess(() -> Component.literal("Rates over 1s | 1m | 5m - msg/s, bytes/s"), false);
+
+        List<String> types = NetworkStats.getTypeNames();
+        for (NetworkStats.Direction direction : NetworkStats.Direction.values()) {
+            String arrow = direction == NetworkStats.Direction.OUTBOUND ? "OUT " : "IN  ";
+            for (int type = 0; type < types.size(); type++) {
+                if (counters.getMessageTotal(direction, type) == 0) continue;
+
+                StringBuilder line = new StringBuilder(arrow).append(types.get(type)).append(": ");
+                for (int w = 0; w < NET_STATS_WINDOWS.length; w++) {
+                    if (w > 0) line.append(" | ");
+                    line.append(String.format("%.1f", counters.getMessageRate(direction, type, NET_STATS_WINDOWS[w])))
+                        .append(" ")
+                        .append(formatBytes(counters.getByteRate(direction, type, NET_STATS_WINDOWS[w])));
+                }
+                String text = line.toString();
+                source.sendSuccess(() -> Component.literal(text), false);
+            }
+        }
+
+        return 1;
+    }
+
+    private static int benchmarkInventory(CommandSourceStack source) {
+        SystemBenchmarks.InventoryFillResult result = SystemBenchmarks.benchmarkInventoryFill();
+        source.sendSuccess(() -> Component.literal("=== BENCHMARK: inventory fill (" + result.slots() + " slots, stored twice) ==="), false);
+        source.sendSuccess(() -> Component.literal(String.format("List scan: %.3f ms | Indexed: %.3f ms",
+            result.linearMillis(), result.indexedMillis())), false);
+        return 1;
+    }
+
+    private static int benchmarkKillExperience(CommandSourceStack source) {
+        if (!(source.getEntity() instanceof ServerPlayer player)) {
+            source.sendFailure(Component.literal("This command can only be used by players!"));
+            return 0;
+        }
+
+        SystemBenchmarks.KillExperienceResult result = SystemBenchmarks.benchmarkKillExperience(player);
+        if (result == null) {
+            source.sendFailure(Component.literal("Could not create a benchmark target"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("=== BENCHMARK: kill XP handler (" + result.kills() + " zombie kills per round) ==="), false);
+        source.sendSuccess(() -> Component.literal(String.format("%.0f ns per kill", result.nanosPerKill())), false);
+        return 1;
+    }
+
+    private static String formatBytes(double bytesPerSecond) {
+        if (bytesPerSecond >= 1024 * 1024) return String.format("%.1fMB", bytesPerSecond / (1024 * 1024));
+        if (bytesPerSecond >= 1024) return String.format("%.1fKB", bytesPerSecond / 1024);
+        return String.format("%.0fB", bytesPerSecond);
+    }
+}
@@ -12,24 +12,38 @@ import net.minecraftforge.common.util.LazyOptional;
 public class CapabilityStorage implements ICapabilitySerializable<CompoundTag> {
 
     private final PlayerCapability capability = new PlayerCapability();
-    private final LazyOptional<PlayerCapability> lazyOptional = LazyOptional.of(() -> capability);
+    private LazyOptional<PlayerCapability> lazyOptional = LazyOptional.of(() -> capability);
 
     @Override
     public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
         if (cap == PlayerCapability.PLAYER_SYSTEM_CAP) {
+            if (!lazyOptional.isPresent()) {
+                // Only reachable after reviveCaps() - PlayerEvent.Clone reads the old player's data
+                lazyOptional = LazyOptional.of(() -> capability);
+            }
             return lazyOptional.cast();
         }
         return LazyOptional.empty();
     }
 
+    /**
+     * System data is saved to its own file by SystemDataStorage, not the player's NBT
+     */
     @Override
     public CompoundTag serializeNBT() {
-        return capability.serializeNBT();
+        return new CompoundTag();
     }
 
+    /**
+     * Only older worlds have System data in the player's NBT - it is migrated to
+     * SystemDataStorage the next time the player is saved
+     */
     @Override
     public void deserializeNBT(CompoundTag nbt) {
-        capability.deserializeNBT(nbt);
+        if (!nbt.isEmpty()) {
+            capability.deserializeNBT(nbt);
+            capability.setUnsavedChanges(true);
+        }
     }
 
     public void invalidate() {
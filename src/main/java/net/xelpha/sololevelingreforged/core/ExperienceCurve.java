@@ -0,0 +1,97 @@
+package net.xelpha.sololevelingreforged.core;
+
+import java.util.Arrays;
+
+/**
+ * The Solo Leveling XP curve, precomputed once
+ * Every level-up path (kills, commands) reads requirements from here so there is one source of truth
+ */
+public final class ExperienceCurve {
+
+    // Highest level whose requirement still fits in an int
+    public static final int MAX_LEVEL;
+
+    // REQUIREMENT[level] - XP needed to go from level to level + 1
+    private static final int[] REQUIREMENT;
+    // CUMULATIVE[level] - total XP needed to reach level from level 1
+    private static final long[] CUMULATIVE;
+
+    static {
+        long[] requirements = new long[1024];
+        int maxLevel = 1;
+        while (maxLevel + 1 < requirements.length) {
+            long requirement = calculateRequirement(maxLevel + 1);
+            if (requirement > Integer.MAX_VALUE) break;
+            maxLevel++;
+            requirements[maxLevel] = requirement;
+        }
+        requirements[1] = calculateRequirement(1);
+
+        MAX_LEVEL = maxLevel;
+        REQUIREMENT = new int[MAX_LEVEL + 1];
+        CUMULATIVE = new long[MAX_LEVEL + 1];
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            REQUIREMENT[level] = (int) requirements[level];
+            if (level > 1) {
+                CUMULATIVE[level] = CUMULATIVE[level - 1] + REQUIREMENT[level - 1];
+            }
+        }
+    }
+
+    private ExperienceCurve() {}
+
+    /**
+     * @return XP needed to go from the given level to the next
+     */
+    public static int getRequirement(int level) {
+        return REQUIREMENT[clampLevel(level)];
+    }
+
+    /**
+     * @return Total XP needed to reach the given level from level 1
+     */
+    public static long getTotalForLevel(int level) {
+        return CUMULATIVE[clampLevel(level)];
+    }
+
+    /**
+     * Resolve the level reached with a total amount of XP - a single binary search
+     * no matter how many levels it spans
+     */
+    public static int getLevelForTotal(long totalExperience) {
+        int index = Arrays.binarySearch(CUMULATIVE, 1, MAX_LEVEL + 1, Math.max(0, totalExperience));
+        // Not an exact match - insertion point is the first level that needs more XP than we have
+        return index >= 0 ? index : -index - 2;
+    }
+
+    public static int clampLevel(int level) {
+        return Math.max(1, Math.min(MAX_LEVEL, level));
+    }
+
+    private static long calculateRequirement(int level) {
+        // Level 1 keeps the short tutorial step new players have always had
+        if (level <= 1) {
+            return 100;
+        }
+
+        // Much harder progression for Solo Leveling authenticity
+        // Level 100 should be extremely difficult to reach through extensive grinding
+        // Similar to Sung Jin-Woo's journey requiring constant dungeon runs and boss fights
+        if (level <= 10) {
+            // Early game: Gentle curve to help new players learn
+            return 500 + (level - 1) * 200L;
+        } else if (level <= 30) {
+            // Mid game: Moderate scaling
+            return 2500 + (long) ((level - 10) * 800 * Math.pow(1.15, level - 10));
+        } else if (level <= 60) {
+            // Late game: Harder scaling
+            return 15000 + (long) ((level - 30) * 2500 * Math.pow(1.25, level - 30));
+        } else if (level <= 90) {
+            // Very hard: Approaching level 100
+            return 80000 + (long) ((level - 60) * 8000 * Math.pow(1.35, level - 60));
+        } else {
+            // Level 90+: Extremely difficult, level 100 milestone
+            return 250000 + (long) ((level - 90) * 15000 * Math.pow(1.45, level - 90));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.xelpha.sololevelingreforged.core;
+
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.Comparator;
+
+/**
+ * Sort orders for the System Inventory view
+ * Sorting happens on the server so paged views line up with the full inventory
+ */
+public enum InventorySortMode {
+    NONE(null),
+    NAME(Comparator.comparing(SystemInventory.Entry::getSortName)),
+    AMOUNT(Comparator.comparingLong(SystemInventory.Entry::getCount)),
+    MOD_ID(Comparator.comparing(e -> {
+        var key = ForgeRegistries.ITEMS.getKey(e.getItem());
+        return key != null ? key.getNamespace() : "";
+    }));
+
+    private final Comparator<SystemInventory.Entry> comparator;
+
+    InventorySortMode(Comparator<SystemInventory.Entry> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * @return The comparator for this mode, or null to keep storage order
+     */
+    public Comparator<SystemInventory.Entry> getComparator() {
+        return comparator;
+    }
+
+    public static InventorySortMode byId(int id) {
+        InventorySortMode[] modes = values();
+        return id >= 0 && id < modes.length ? modes[id] : NONE;
+    }
+}
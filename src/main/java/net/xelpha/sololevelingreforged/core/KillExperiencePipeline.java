@@ -0,0 +1,205 @@
+package net.xelpha.sololevelingreforged.core;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.skills.PredatorSkill;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The one place kill XP is worked out
+ * An ordered chain of modifiers runs once per death and the result goes to a single addExperience call.
+ * Other features hook in with {@link #register} instead of adding their own death handlers
+ */
+public final class KillExperiencePipeline {
+
+    // Stage order - modifiers run lowest first
+    public static final int ORDER_BASE = 0;
+    public static final int ORDER_BOSS = 100;
+    public static final int ORDER_CAP = 200;
+    public static final int ORDER_PREDATOR = 300;
+    public static final int ORDER_PARTY = 400;
+    public static final int ORDER_ANTI_FARM = 500;
+
+    private static final float MAX_BASE_XP = 500.0f;
+
+    // Anti-farm: kills of one mob type per player within the window before XP starts dropping off
+    private static final long FARM_WINDOW_TICKS = 1200; // 1 minute
+    private static final int FARM_FREE_KILLS = 20;
+    private static final float FARM_MIN_MULTIPLIER = 0.1f;
+
+    private static final List<Stage> STAGES = new ArrayList<>();
+    private static final Map<UUID, Map<EntityType<?>, KillWindow>> RECENT_KILLS = new HashMap<>();
+
+    static {
+        register(ORDER_BASE, KillExperiencePipeline::applyBase);
+        register(ORDER_BOSS, KillExperiencePipeline::applyBossMultiplier);
+        register(ORDER_CAP, context -> context.experience = Math.min(context.experience, MAX_BASE_XP));
+        register(ORDER_PREDATOR, KillExperiencePipeline::applyPredator);
+        register(ORDER_ANTI_FARM, KillExperiencePipeline::applyAntiFarm);
+    }
+
+    private KillExperiencePipeline() {}
+
+    /**
+     * A step in the kill XP chain
+     */
+    @FunctionalInterface
+    public interface Modifier {
+        void apply(Context context);
+    }
+
+    /**
+     * State passed along the chain for one kill
+     */
+    public static final class Context {
+        private final ServerPlayer player;
+        private final PlayerCapability capability;
+        private final LivingEntity target;
+        private float experience = 0;
+
+        private Context(ServerPlayer player, PlayerCapability capability, LivingEntity target) {
+            this.player = player;
+            this.capability = capability;
+            this.target = target;
+        }
+
+        public ServerPlayer getPlayer() { return player; }
+        public PlayerCapability getCapability() { return capability; }
+        public LivingEntity getTarget() { return target; }
+        public float getExperience() { return experience; }
+
+        public void setExperience(float experience) {
+            this.experience = Math.max(0, experience);
+        }
+
+        public void multiply(float multiplier) {
+            setExperience(experience * multiplier);
+        }
+    }
+
+    private record Stage(int order, Modifier modifier) {}
+
+    /**
+     * Add a modifier to the chain
+     * @param order Where it runs - see the ORDER_ constants (party share belongs at ORDER_PARTY)
+     */
+    public static void register(int order, Modifier modifier) {
+        STAGES.add(new Stage(order, modifier));
+        // Stable sort keeps registration order within the same stage
+        STAGES.sort(Comparator.comparingInt(Stage::order));
+    }
+
+    /**
+     * Run the chain for a kill and grant the result
+     */
+    public static void grantKillExperience(ServerPlayer player, PlayerCapability capability, LivingEntity target) {
+        int experience = computeKillExperience(player, capability, target);
+        if (experience > 0) {
+            capability.addExperience(experience);
+        }
+    }
+
+    /**
+     * Run the chain for a kill without granting the result
+     */
+    static int computeKillExperience(ServerPlayer player, PlayerCapability capability, LivingEntity target) {
+        Context context = new Context(player, capability, target);
+        for (Stage stage : STAGES) {
+            stage.modifier.apply(context);
+        }
+        return Math.round(context.experience);
+    }
+
+    /**
+     * Run work against an empty anti-farm history for the player, then restore their real one
+     * Used by SystemBenchmarks so benchmark kills don't count as farming
+     */
+    static void withDetachedHistory(UUID playerId, Runnable work) {
+        Map<EntityType<?>, KillWindow> history = RECENT_KILLS.remove(playerId);
+        try {
+            work.run();
+        } finally {
+            if (history != null) {
+                RECENT_KILLS.put(playerId, history);
+            } else {
+                RECENT_KILLS.remove(playerId);
+            }
+        }
+    }
+
+    /**
+     * Forget a player's anti-farm history (logout)
+     */
+    public static void clearPlayer(UUID playerId) {
+        RECENT_KILLS.remove(playerId);
+    }
+
+    // ===== BUILT-IN STAGES =====
+
+    /**
+     * Base XP scales with the mob's max health - works for modded mobs without any configuration
+     * 0.8 XP per heart, minimum 3, unless a datapack sets a fixed base XP for the type
+     */
+    private static void applyBase(Context context) {
+        float baseXp = MobClassification.get(context.target.getType()).baseXp();
+        context.setExperience(baseXp > 0 ? baseXp : Math.max(context.target.getMaxHealth() * 0.8f, 3.0f));
+    }
+
+    /**
+     * Tier multiplier from MobClassification, plus diminishing extra scaling for very high health mobs
+     */
+    private static void applyBossMultiplier(Context context) {
+        context.multiply(MobClassification.get(context.target.getType()).tier().getXpMultiplier());
+
+        float maxHealth = context.target.getMaxHealth();
+        if (maxHealth > 100) {
+            float extraScaling = Math.min(maxHealth / 100.0f, 3.0f); // Cap at 3x for 300+ HP
+            context.multiply(1.0f + extraScaling * 0.5f);
+        }
+    }
+
+    private static void applyPredator(Context context) {
+        if (context.capability.getSkill(Sololevelingreforged.loc("predator")) instanceof PredatorSkill predator) {
+            float multiplier = predator.getXpMultiplier(context.target);
+            if (multiplier > 1.0f) {
+                context.multiply(multiplier);
+                context.player.sendSystemMessage(Component.literal(
+                    String.format("Predator bonus: +%.0f%% XP!", (multiplier - 1.0f) * 100)));
+            }
+        }
+    }
+
+    /**
+     * Repeatedly killing the same mob type (mob farms) gives less and less XP
+     */
+    private static void applyAntiFarm(Context context) {
+        long now = context.player.level().getGameTime();
+        KillWindow window = RECENT_KILLS
+            .computeIfAbsent(context.player.getUUID(), id -> new HashMap<>())
+            .computeIfAbsent(context.target.getType(), type -> new KillWindow());
+
+        if (now - window.start > FARM_WINDOW_TICKS) {
+            window.start = now;
+            window.kills = 0;
+        }
+        window.kills++;
+
+        if (window.kills > FARM_FREE_KILLS) {
+            context.multiply(Math.max(FARM_MIN_MULTIPLIER, FARM_FREE_KILLS / (float) window.kills));
+        }
+    }
+
+    private static final class KillWindow {
+        long start;
+        int kills;
+    }
+}
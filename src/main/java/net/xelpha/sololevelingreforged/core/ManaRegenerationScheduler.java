@@ -0,0 +1,51 @@
+package net.xelpha.sololevelingreforged.core;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Regenerates mana once per server tick for players below max mana
+ * Only players in the active set are visited - they join when they spend mana or their max goes up,
+ * and leave once full, so idle players cost nothing. Server thread only
+ */
+public final class ManaRegenerationScheduler {
+
+    private static final Set<UUID> ACTIVE = new HashSet<>();
+
+    private ManaRegenerationScheduler() {}
+
+    /**
+     * Start regenerating a player's mana
+     */
+    public static void activate(ServerPlayer player) {
+        ACTIVE.add(player.getUUID());
+    }
+
+    public static void deactivate(UUID playerId) {
+        ACTIVE.remove(playerId);
+    }
+
+    public static void clear() {
+        ACTIVE.clear();
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (ACTIVE.isEmpty()) return;
+
+        Iterator<UUID> iterator = ACTIVE.iterator();
+        while (iterator.hasNext()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(iterator.next());
+            boolean regenerating = player != null && player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
+                .map(cap -> cap.regenerateMana(cap.getManaRegenPerTick()))
+                .orElse(false);
+            if (!regenerating) {
+                iterator.remove();
+            }
+        }
+    }
+}
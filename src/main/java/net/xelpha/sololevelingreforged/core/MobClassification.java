@@ -0,0 +1,172 @@
+package net.xelpha.sololevelingreforged.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraftforge.common.Tags;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.Reader;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-EntityType mob tiers for XP, built once when the server starts (and again on /reload)
+ * Tiers come from entity type tags - sololevelingreforged:bosses, :elites, :tough and forge:bosses -
+ * and can be overridden per type or per tag by datapacks in data/<namespace>/sololeveling/mob_classification.json:
+ * <pre>
+ * { "entries": { "mymod:lich_king": { "tier": "boss", "base_xp": 400 }, "#mymod:minibosses": { "tier": "elite" } } }
+ * </pre>
+ * Lookups during play are a single identity-map read
+ */
+public final class MobClassification {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public static final TagKey<EntityType<?>> BOSSES = tag("bosses");
+    public static final TagKey<EntityType<?>> ELITES = tag("elites");
+    public static final TagKey<EntityType<?>> TOUGH = tag("tough");
+
+    private static final String OVERRIDE_DIR = "sololeveling";
+    private static final String OVERRIDE_FILE = "mob_classification.json";
+
+    /**
+     * How dangerous a mob is - drives the XP multiplier
+     */
+    public enum Tier {
+        PASSIVE(1.0f),
+        HOSTILE(1.0f),
+        TOUGH(1.5f),   // Ravagers, brutes, evokers
+        ELITE(2.0f),   // Mini-bosses
+        BOSS(3.0f);    // Major bosses
+
+        private final float xpMultiplier;
+
+        Tier(float xpMultiplier) {
+            this.xpMultiplier = xpMultiplier;
+        }
+
+        public float getXpMultiplier() {
+            return xpMultiplier;
+        }
+    }
+
+    /**
+     * @param baseXp Fixed base XP for the type, or 0 to scale with max health
+     */
+    public record Entry(Tier tier, float baseXp) {}
+
+    private static final Entry DEFAULT_PASSIVE = new Entry(Tier.PASSIVE, 0);
+    private static final Entry DEFAULT_HOSTILE = new Entry(Tier.HOSTILE, 0);
+
+    // Swapped as a whole on rebuild
+    private static volatile Map<EntityType<?>, Entry> table = new IdentityHashMap<>();
+
+    private MobClassification() {}
+
+    /**
+     * Get the classification of an entity type
+     */
+    public static Entry get(EntityType<?> type) {
+        Entry entry = table.get(type);
+        if (entry != null) {
+            return entry;
+        }
+        // Before the first build - fall back on the mob category
+        return type.getCategory() == MobCategory.MONSTER ? DEFAULT_HOSTILE : DEFAULT_PASSIVE;
+    }
+
+    /**
+     * Classify every registered entity type from tags, then apply datapack overrides
+     * Tags must be bound, so this runs on ServerStartedEvent and after datapack reloads
+     */
+    public static void rebuild(ResourceManager resourceManager) {
+        Map<EntityType<?>, Entry> built = new IdentityHashMap<>();
+        for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
+            built.put(type, classifyFromTags(type));
+        }
+
+        Map<ResourceLocation, List<Resource>> files = resourceManager.listResourceStacks(OVERRIDE_DIR,
+            location -> location.getPath().endsWith(OVERRIDE_FILE));
+        files.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(file -> {
+                // Lowest priority pack first so higher packs win
+                for (Resource resource : file.getValue()) {
+                    try (Reader reader = resource.openAsReader()) {
+                        applyOverrides(built, JsonParser.parseReader(reader).getAsJsonObject());
+                    } catch (Exception e) {
+                        LOGGER.error("Failed to read mob classification overrides {} from {}",
+                            file.getKey(), resource.sourcePackId(), e);
+                    }
+                }
+            });
+
+        table = built;
+    }
+
+    private static Entry classifyFromTags(EntityType<?> type) {
+        if (type.is(BOSSES) || type.is(Tags.EntityTypes.BOSSES)) return new Entry(Tier.BOSS, 0);
+        if (type.is(ELITES)) return new Entry(Tier.ELITE, 0);
+        if (type.is(TOUGH)) return new Entry(Tier.TOUGH, 0);
+        return type.getCategory() == MobCategory.MONSTER ? DEFAULT_HOSTILE : DEFAULT_PASSIVE;
+    }
+
+    private static void applyOverrides(Map<EntityType<?>, Entry> built, JsonObject json) {
+        JsonObject entries = GsonHelper.getAsJsonObject(json, "entries", new JsonObject());
+        for (Map.Entry<String, JsonElement> override : entries.entrySet()) {
+            String key = override.getKey();
+
+            // Each entry is checked on its own, so one typo doesn't drop the rest of the file
+            Tier tier;
+            Float baseXp;
+            try {
+                JsonObject value = GsonHelper.convertToJsonObject(override.getValue(), key);
+                tier = value.has("tier")
+                    ? Tier.valueOf(GsonHelper.getAsString(value, "tier").toUpperCase(Locale.ROOT))
+                    : null;
+                baseXp = value.has("base_xp") ? GsonHelper.getAsFloat(value, "base_xp") : null;
+            } catch (JsonParseException | IllegalArgumentException e) {
+                LOGGER.error("Skipping mob classification override {}: {}", key, e.getMessage());
+                continue;
+            }
+
+            if (key.startsWith("#")) {
+                ResourceLocation tagId = ResourceLocation.tryParse(key.substring(1));
+                if (tagId == null) continue;
+                TagKey<EntityType<?>> tag = TagKey.create(Registries.ENTITY_TYPE, tagId);
+                for (var holder : BuiltInRegistries.ENTITY_TYPE.getTagOrEmpty(tag)) {
+                    built.put(holder.value(), override(built.get(holder.value()), tier, baseXp));
+                }
+            } else {
+                ResourceLocation typeId = ResourceLocation.tryParse(key);
+                if (typeId == null) continue;
+                BuiltInRegistries.ENTITY_TYPE.getOptional(typeId)
+                    .ifPresent(type -> built.put(type, override(built.get(type), tier, baseXp)));
+            }
+        }
+    }
+
+    private static Entry override(Entry current, @Nullable Tier tier, @Nullable Float baseXp) {
+        return new Entry(tier != null ? tier : current.tier(), baseXp != null ? baseXp : current.baseXp());
+    }
+
+    private static TagKey<EntityType<?>> tag(String name) {
+        return TagKey.create(Registries.ENTITY_TYPE, Sololevelingreforged.loc(name));
+    }
+}
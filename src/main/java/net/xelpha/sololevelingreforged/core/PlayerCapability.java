@@ -7,6 +7,7 @@ import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
@@ -14,16 +15,18 @@ import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
-import net.xelpha.sololevelingreforged.network.SyncCapabilityPacket;
+import net.xelpha.sololevelingreforged.network.SnapshotTransfer;
+import net.xelpha.sololevelingreforged.network.SyncCapabilityDeltaPacket;
 import net.xelpha.sololevelingreforged.skills.Skill;
 import net.xelpha.sololevelingreforged.skills.SkillRegistry;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,7 +41,8 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     // Core Stats
     private int level = 1;
     private int experience = 0;
-    private int experienceToNext = 100;
+    private int experienceToNext = ExperienceCurve.getRequirement(1);
+    private int pendingBlockExperience = 0; // Block-break XP waiting for the next flush (not saved)
 
     // Ability Points
     private int availableAP = 0;
@@ -63,17 +67,50 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     private long messageTimestamp = 0;
     
     // System Inventory (Solo Leveling's unlimited dimensional storage)
-    private final List<ItemStack> systemInventory = new ArrayList<>();
-    private static final int MAX_INVENTORY_SLOTS = 1000; // Large but not infinite for performance
+    public static final int MAX_INVENTORY_SLOTS = 1000; // Large but not infinite for performance
+    private SystemInventory systemInventory = new SystemInventory(MAX_INVENTORY_SLOTS);
     private int gold = 0; // System currency
 
     // Skills System
     private final Map<ResourceLocation, Skill> learnedSkills = new HashMap<>();
     private final Map<ResourceLocation, Integer> skillLevels = new HashMap<>();
 
+    // Skill cooldowns in game ticks, indexed by SkillRegistry.getIndex - 0 means ready
+    private long[] cooldownEnds = new long[0];
+    private int[] cooldownDurations = new int[0];
+
     // Reference to player for calculations
     private Player player;
 
+    // Sync groups - each bit marks a set of fields that changed since the last client sync
+    public static final int SYNC_CORE = 1;            // Level, experience, AP, stats, title
+    public static final int SYNC_RESOURCES = 1 << 1;  // Mana
+    public static final int SYNC_INVENTORY = 1 << 2;  // System Inventory header (size, version) and gold
+    public static final int SYNC_SKILLS = 1 << 3;     // Learned skills and levels
+    public static final int SYNC_MESSAGE = 1 << 4;    // Last system message
+    public static final int SYNC_COOLDOWNS = 1 << 5;  // Skill cooldown end ticks
+    public static final int SYNC_ALL = SYNC_CORE | SYNC_RESOURCES | SYNC_INVENTORY | SYNC_SKILLS | SYNC_MESSAGE | SYNC_COOLDOWNS;
+
+    // Dirty tracking (server side)
+    private int dirtyGroups = 0;
+    // Set by any change, cleared when SystemDataStorage takes a snapshot to write (and set again if that write fails)
+    private boolean unsavedChanges = false;
+
+    // System Inventory contents are replicated in pages on demand (see RequestInventoryPagePacket);
+    // syncs only carry this header so the client knows when its cached pages are stale
+    private int inventoryVersion = 0;
+    private int syncedInventorySize = 0; // Client side - inventory size reported by the server
+    private SortedView sortedView; // Server side - last sorted view, reused while the inventory is unchanged
+
+    // Client side - true once a full snapshot has been applied, deltas are only valid on top of one
+    private boolean hasSnapshot = false;
+
+    // Client side - bumped whenever server core data (level, AP, stats) is applied
+    private int coreUpdates = 0;
+
+    // Client side - skill casts applied locally but not yet confirmed by the server, by cast sequence number
+    private final Map<Integer, PredictedCast> predictedCasts = new LinkedHashMap<>();
+
     public PlayerCapability() {}
 
     public void setPlayer(Player player) {
@@ -86,34 +123,53 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
 
     // ===== LEVELING SYSTEM =====
 
+    /**
+     * Grant XP - any number of level-ups resolve in one step
+     * The final level comes from a single lookup in the precomputed ExperienceCurve,
+     * AP is awarded at once and there is one notification and one sync however many levels were gained
+     */
     public void addExperience(int xp) {
-        this.experience += xp;
+        long total = ExperienceCurve.getTotalForLevel(level) + experience + Math.max(0, xp);
+        int newLevel = ExperienceCurve.getLevelForTotal(total);
+        int levelsGained = newLevel - level;
 
-        // Check for level up
-        while (this.experience >= this.experienceToNext) {
-            levelUp();
-        }
+        this.level = newLevel;
+        this.experienceToNext = ExperienceCurve.getRequirement(newLevel);
+        // At the level cap XP stops just short of the (unreachable) next level
+        this.experience = (int) Math.min(total - ExperienceCurve.getTotalForLevel(newLevel), experienceToNext - 1L);
 
-        // Send system message
-        setSystemMessage("Experience gained: " + xp);
+        if (levelsGained > 0) {
+            this.availableAP += levelsGained * 5; // 5 AP per level
 
-        // Sync to client - pass the player parameter
-        syncToClient(player instanceof net.minecraft.server.level.ServerPlayer serverPlayer ? serverPlayer : null);
-    }
+            setSystemMessage("LEVEL UP! You are now level " + this.level + ". +" + (levelsGained * 5) + " Ability Points available.");
 
-    private void levelUp() {
-        this.level++;
-        this.experience -= this.experienceToNext;
-        this.experienceToNext = calculateExperienceForLevel(this.level);
-        this.availableAP += 5; // 5 AP per level
+            // Play level up sound and show toast notification
+            playLevelUpEffects();
+        } else {
+            // Send system message
+            setSystemMessage("Experience gained: " + xp);
+        }
 
-        setSystemMessage("LEVEL UP! You are now level " + this.level + ". +5 Ability Points available.");
+        // Sync to client (flushed at the end of the tick)
+        markDirty(SYNC_CORE);
+    }
 
-        // Play level up sound and show toast notification
-        playLevelUpEffects();
+    /**
+     * Queue block-break XP - granted in one go by {@link #flushBlockExperience()}
+     */
+    public void addBlockExperience(int xp) {
+        pendingBlockExperience += xp;
+    }
 
-        // Sync to client
-        syncToClient(player instanceof net.minecraft.server.level.ServerPlayer serverPlayer ? serverPlayer : null);
+    /**
+     * Grant all queued block-break XP as a single addExperience call
+     */
+    public void flushBlockExperience() {
+        if (pendingBlockExperience > 0) {
+            int xp = pendingBlockExperience;
+            pendingBlockExperience = 0;
+            addExperience(xp);
+        }
     }
 
     private void playLevelUpEffects() {
@@ -136,60 +192,54 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         }
     }
 
-    private int calculateExperienceForLevel(int level) {
-        // Much harder progression for Solo Leveling authenticity
-        // Level 100 should be extremely difficult to reach through extensive grinding
-        // Similar to Sung Jin-Woo's journey requiring constant dungeon runs and boss fights
-        if (level <= 10) {
-            // Early game: Gentle curve to help new players learn
-            return 500 + (level - 1) * 200;
-        } else if (level <= 30) {
-            // Mid game: Moderate scaling
-            return 2500 + (int)((level - 10) * 800 * Math.pow(1.15, level - 10));
-        } else if (level <= 60) {
-            // Late game: Harder scaling
-            return 15000 + (int)((level - 30) * 2500 * Math.pow(1.25, level - 30));
-        } else if (level <= 90) {
-            // Very hard: Approaching level 100
-            return 80000 + (int)((level - 60) * 8000 * Math.pow(1.35, level - 60));
-        } else {
-            // Level 90+: Extremely difficult, level 100 milestone
-            return 250000 + (int)((level - 90) * 15000 * Math.pow(1.45, level - 90));
+    // ===== STAT ALLOCATION =====
+
+    /**
+     * Apply a batch of stat allocations atomically - either every point is spent or none are
+     * Max health and mana are recomputed once, and the change goes out in a single sync at the end of the tick
+     * @param increments Points to add per stat, indexed by {@link Stat} ordinal
+     * @return false if any increment is negative, the batch is empty, or it costs more than the available AP
+     */
+    public boolean allocateStatPoints(int[] increments) {
+        Stat[] stats = Stat.values();
+        if (increments.length > stats.length) return false;
+
+        long total = 0;
+        for (int increment : increments) {
+            if (increment < 0) return false;
+            total += increment;
         }
-    }
+        if (total == 0 || total > availableAP) return false;
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < increments.length; i++) {
+            if (increments[i] == 0) continue;
+
+            switch (stats[i]) {
+                case STRENGTH -> strength += increments[i];
+                case AGILITY -> agility += increments[i];
+                case SENSE -> sense += increments[i];
+                case VITALITY -> vitality += increments[i];
+                case INTELLIGENCE -> intelligence += increments[i];
+            }
 
-    // ===== STAT ALLOCATION =====
+            if (message.length() > 0) message.append(", ");
+            message.append(stats[i].getKey().toUpperCase()).append(" increased to ").append(getStatValue(stats[i]));
+        }
 
-    public boolean allocateStatPoint(String statName) {
-        if (availableAP <= 0) return false;
+        availableAP -= (int) total;
 
-        switch (statName.toLowerCase()) {
-            case "strength":
-                strength++;
-                break;
-            case "agility":
-                agility++;
-                break;
-            case "sense":
-                sense++;
-                break;
-            case "vitality":
-                vitality++;
-                updateMaxHealth();
-                break;
-            case "intelligence":
-                intelligence++;
-                updateMaxMana();
-                break;
-            default:
-                return false;
+        if (Stat.VITALITY.ordinal() < increments.length && increments[Stat.VITALITY.ordinal()] > 0) {
+            updateMaxHealth();
+        }
+        if (Stat.INTELLIGENCE.ordinal() < increments.length && increments[Stat.INTELLIGENCE.ordinal()] > 0) {
+            updateMaxMana();
         }
 
-        availableAP--;
-        setSystemMessage(statName.toUpperCase() + " increased to " + getStatValue(statName) + "!");
+        setSystemMessage(message.append("!").toString());
 
-        // Sync to client
-        syncToClient(player instanceof net.minecraft.server.level.ServerPlayer serverPlayer ? serverPlayer : null);
+        // Sync to client (flushed at the end of the tick)
+        markDirty(SYNC_CORE | SYNC_RESOURCES);
 
         return true;
     }
@@ -208,6 +258,8 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         if (this.currentMana > this.maxMana) {
             this.currentMana = this.maxMana;
         }
+        markDirty(SYNC_RESOURCES);
+        startManaRegeneration();
     }
 
     // ===== MANA SYSTEM =====
@@ -223,15 +275,45 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     public boolean consumeMana(float amount) {
         if (currentMana >= amount) {
             currentMana -= amount;
-            syncToClient(player instanceof net.minecraft.server.level.ServerPlayer serverPlayer ? serverPlayer : null);
+            markDirty(SYNC_RESOURCES);
+            startManaRegeneration();
             return true;
         }
         return false;
     }
 
-    public void regenerateMana(float amount) {
+    /**
+     * Regenerate mana - called every tick by ManaRegenerationScheduler
+     * Fractions accumulate in currentMana; a sync is only marked when the displayed
+     * whole value or the bar's percentage bucket changes, or mana fills up
+     * @return true while mana is still below max
+     */
+    public boolean regenerateMana(float amount) {
+        float before = currentMana;
         currentMana = Math.min(currentMana + amount, maxMana);
-        syncToClient(player instanceof net.minecraft.server.level.ServerPlayer serverPlayer ? serverPlayer : null);
+
+        if ((int) before != (int) currentMana || getManaBucket(before) != getManaBucket(currentMana)
+                || (before < maxMana && currentMana >= maxMana)) {
+            markDirty(SYNC_RESOURCES);
+        }
+        return currentMana < maxMana;
+    }
+
+    /**
+     * Mana regenerated per tick - 1/s base, scaled by INT and level
+     */
+    public float getManaRegenPerTick() {
+        return (1.0f + intelligence * 0.1f + level * 0.05f) / 20.0f;
+    }
+
+    private int getManaBucket(float mana) {
+        return (int) (mana / maxMana * 100); // 1% of the mana bar
+    }
+
+    private void startManaRegeneration() {
+        if (player instanceof ServerPlayer serverPlayer && currentMana < maxMana) {
+            ManaRegenerationScheduler.activate(serverPlayer);
+        }
     }
 
     // ===== SYSTEM INVENTORY =====
@@ -247,20 +329,10 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     public boolean addItemToInventory(ItemStack stack) {
         if (stack.isEmpty()) return false;
         
-        // First try to stack with existing items (unlimited stacking!)
-        for (ItemStack existing : systemInventory) {
-            if (ItemStack.isSameItemSameTags(existing, stack)) {
-                // System inventory has NO stack limit - add all to existing
-                existing.grow(stack.getCount());
-                stack.setCount(0);
-                return true;
-            }
-        }
-        
-        // No existing stack found - add as new entry
-        if (systemInventory.size() < MAX_INVENTORY_SLOTS) {
-            systemInventory.add(stack.copy());
+        // Merges into the existing slot for this item (unlimited stacking!) or takes a new one
+        if (systemInventory.add(stack) >= 0) {
             stack.setCount(0);
+            markInventoryChanged();
             return true;
         }
         
@@ -268,41 +340,168 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     }
     
     /**
-     * Remove an item from the System Inventory
-     * @param index The slot index to remove from
-     * @return The removed item stack, or empty if invalid
+     * Deposit every stack in a player's main inventory in one transaction
+     * @param source The player inventory to empty
+     * @param onlyStored Only deposit items the System Inventory already holds
+     * @return The number of items stored
+     */
+    public long storeFromInventory(Inventory source, boolean onlyStored) {
+        long stored = 0;
+
+        for (int i = 0; i < source.items.size(); i++) {
+            ItemStack stack = source.items.get(i);
+            if (stack.isEmpty() || (onlyStored && !systemInventory.contains(stack))) continue;
+
+            // A full inventory still merges stacks it already holds, so keep going
+            if (systemInventory.add(stack) >= 0) {
+                stored += stack.getCount();
+                source.items.set(i, ItemStack.EMPTY);
+            }
+        }
+
+        if (stored > 0) {
+            source.setChanged();
+            markInventoryChanged();
+        }
+        return stored;
+    }
+
+    /**
+     * Withdraw from several System Inventory slots into a player's inventory in one transaction
+     * Only what fits is taken, so a bulk withdraw never spills onto the ground
+     * @param target The player inventory to fill
+     * @param slots The slot indices to withdraw from (duplicates are ignored)
+     * @param amount The most items to take from each slot
+     * @return The number of items moved
+     */
+    public long withdrawToInventory(Inventory target, int[] slots, long amount) {
+        int[] ordered = Arrays.stream(slots).distinct().sorted().toArray();
+        long moved = 0;
+
+        // Highest slot first, so removing an emptied slot doesn't shift the ones still to do
+        withdraw:
+        for (int i = ordered.length - 1; i >= 0; i--) {
+            int slot = ordered[i];
+            SystemInventory.Entry entry = systemInventory.get(slot);
+            if (entry == null) continue;
+
+            int maxStackSize = entry.createStack(1).getMaxStackSize();
+            long remaining = Math.min(amount, entry.getCount());
+
+            while (remaining > 0) {
+                ItemStack chunk = entry.createStack((int) Math.min(remaining, maxStackSize));
+                if (target.getSlotWithRemainingSpace(chunk) < 0 && target.getFreeSlot() < 0) {
+                    break withdraw; // Player inventory is full
+                }
+
+                int requested = chunk.getCount();
+                target.add(chunk); // Leaves whatever didn't fit in the chunk
+                int taken = requested - chunk.getCount();
+
+                systemInventory.shrink(slot, taken);
+                moved += taken;
+                remaining -= taken;
+
+                if (!chunk.isEmpty()) {
+                    break withdraw;
+                }
+            }
+        }
+
+        if (moved > 0) {
+            markInventoryChanged();
+        }
+        return moved;
+    }
+
+    /**
+     * Check whether the System Inventory holds the same item and tags as the given stack
+     */
+    public boolean hasInventoryItem(ItemStack stack) {
+        return systemInventory.contains(stack);
+    }
+
+    /**
+     * Find the slot holding the same item and tags as the given stack
+     * @return The slot index, or -1 if not stored
+     */
+    public int findInventorySlot(ItemStack stack) {
+        return systemInventory.find(stack);
+    }
+
+    private void markInventoryChanged() {
+        inventoryVersion++;
+        sortedView = null;
+        markDirty(SYNC_INVENTORY);
+    }
+
+    /**
+     * Version of the System Inventory contents - bumped on every change
+     * Clients drop cached pages when this changes
+     */
+    public int getInventoryVersion() {
+        return inventoryVersion;
+    }
+
+    private record SortedView(InventorySortMode sortMode, boolean ascending, int version, int[] slots) {}
+
+    /**
+     * Slot order for a sorted view of the System Inventory
+     * The last view is cached, so paging through one sorted view only sorts once per inventory change
+     * @return Slot indices in display order - shared, must not be modified
      */
-    public ItemStack removeItemFromInventory(int index) {
-        if (index >= 0 && index < systemInventory.size()) {
-            return systemInventory.remove(index);
+    public int[] getSortedInventoryView(InventorySortMode sortMode, boolean ascending) {
+        SortedView cached = sortedView;
+        if (cached != null && cached.sortMode == sortMode && cached.ascending == ascending && cached.version == inventoryVersion) {
+            return cached.slots;
+        }
+
+        int[] view = buildSortedInventoryView(sortMode, ascending);
+        sortedView = new SortedView(sortMode, ascending, inventoryVersion, view);
+        return view;
+    }
+
+    private int[] buildSortedInventoryView(InventorySortMode sortMode, boolean ascending) {
+        Integer[] order = new Integer[systemInventory.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Comparator<SystemInventory.Entry> comparator = sortMode.getComparator();
+        if (comparator != null) {
+            Comparator<Integer> slotComparator = Comparator.comparing(systemInventory::get, comparator);
+            Arrays.sort(order, ascending ? slotComparator : slotComparator.reversed());
+        }
+
+        int[] view = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            view[i] = order[i];
         }
-        return ItemStack.EMPTY;
+        return view;
     }
     
     /**
-     * Get an item from the System Inventory without removing it
+     * Get an entry from the System Inventory without removing it
      * @param index The slot index
-     * @return The item stack, or empty if invalid
+     * @return The entry, or null if invalid
      */
-    public ItemStack getInventoryItem(int index) {
-        if (index >= 0 && index < systemInventory.size()) {
-            return systemInventory.get(index);
-        }
-        return ItemStack.EMPTY;
+    public SystemInventory.Entry getInventoryEntry(int index) {
+        return systemInventory.get(index);
     }
     
     /**
-     * Get all items in the System Inventory
+     * Get all entries in the System Inventory
      */
-    public List<ItemStack> getSystemInventory() {
-        return systemInventory;
+    public List<SystemInventory.Entry> getSystemInventory() {
+        return systemInventory.getEntries();
     }
     
     /**
      * Get the number of items in the System Inventory
+     * On the client this is the size reported by the server, the contents live in the page cache
      */
     public int getInventorySize() {
-        return systemInventory.size();
+        return player != null && player.level().isClientSide ? syncedInventorySize : systemInventory.size();
     }
     
     /**
@@ -324,6 +523,7 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
      */
     public void addGold(int amount) {
         this.gold = Math.max(0, this.gold + amount);
+        markDirty(SYNC_INVENTORY);
     }
     
     /**
@@ -332,6 +532,7 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     public boolean spendGold(int amount) {
         if (gold >= amount) {
             gold -= amount;
+            markDirty(SYNC_INVENTORY);
             return true;
         }
         return false;
@@ -357,9 +558,7 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         if (playerSkill != null) {
             learnedSkills.put(skillId, playerSkill);
             skillLevels.put(skillId, 1); // Start at level 1
-            if (player instanceof ServerPlayer serverPlayer) {
-                syncToClient(serverPlayer);
-            }
+            markDirty(SYNC_SKILLS);
             return true;
         }
 
@@ -377,9 +576,7 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
 
         if (skill.levelUp()) {
             skillLevels.put(skillId, skill.getCurrentLevel());
-            if (player instanceof ServerPlayer serverPlayer) {
-                syncToClient(serverPlayer);
-            }
+            markDirty(SYNC_SKILLS);
             return true;
         }
 
@@ -425,6 +622,142 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         return false;
     }
 
+    // ===== SKILL COOLDOWNS =====
+    // Cooldowns run on the game-time clock, so they pause with server lag instead of drifting.
+    // The server pushes each cooldown end once when it starts; the client works out progress locally
+
+    /**
+     * Start a skill's cooldown (server side)
+     */
+    public void startCooldown(ResourceLocation skillId, int durationTicks) {
+        int index = SkillRegistry.getIndex(skillId);
+        if (index < 0 || durationTicks <= 0) return;
+
+        ensureCooldownCapacity();
+        cooldownEnds[index] = getGameTime() + durationTicks;
+        cooldownDurations[index] = durationTicks;
+        markDirty(SYNC_COOLDOWNS);
+    }
+
+    /**
+     * Get remaining cooldown in game ticks
+     */
+    public int getRemainingCooldownTicks(ResourceLocation skillId) {
+        int index = SkillRegistry.getIndex(skillId);
+        if (index < 0 || index >= cooldownEnds.length) return 0;
+        return (int) Math.max(0, cooldownEnds[index] - getGameTime());
+    }
+
+    public boolean isOnCooldown(ResourceLocation skillId) {
+        return getRemainingCooldownTicks(skillId) > 0;
+    }
+
+    /**
+     * Get cooldown progress (0.0 just used, 1.0 ready)
+     */
+    public float getCooldownProgress(ResourceLocation skillId) {
+        int remaining = getRemainingCooldownTicks(skillId);
+        if (remaining <= 0) return 1.0f;
+        int duration = cooldownDurations[SkillRegistry.getIndex(skillId)];
+        return 1.0f - remaining / (float) Math.max(duration, remaining);
+    }
+
+    // ===== CAST PREDICTION (client side) =====
+    // Mana and cooldown change on the key press instead of a round trip later. Server state arriving
+    // in syncs is authoritative; unconfirmed predictions are laid back over it until the server
+    // acknowledges or rejects their sequence number (SkillCastResultPacket)
+
+    private static final int PREDICTION_TIMEOUT_TICKS = 100; // Unanswered casts are rolled back after this
+
+    private record PredictedCast(int skillIndex, float manaCost, long cooldownEnd, int cooldownDuration,
+                                 long previousCooldownEnd, int previousCooldownDuration, long predictedAt) {}
+
+    /**
+     * Predict a skill cast locally
+     * @return false if the server will reject it anyway (not learned, passive, on cooldown, not enough mana)
+     */
+    public boolean predictSkillCast(int sequence, ResourceLocation skillId) {
+        Skill skill = learnedSkills.get(skillId);
+        int index = SkillRegistry.getIndex(skillId);
+        if (skill == null || index < 0 || !skill.getType().name().startsWith("ACTIVE")
+                || isOnCooldown(skillId) || currentMana < skill.getManaCost()) {
+            return false;
+        }
+
+        ensureCooldownCapacity();
+        PredictedCast cast = new PredictedCast(index, skill.getManaCost(),
+            getGameTime() + skill.getCooldownTicks(), skill.getCooldownTicks(),
+            cooldownEnds[index], cooldownDurations[index], getGameTime());
+        predictedCasts.put(sequence, cast);
+
+        currentMana -= cast.manaCost;
+        cooldownEnds[index] = cast.cooldownEnd;
+        cooldownDurations[index] = cast.cooldownDuration;
+        return true;
+    }
+
+    /**
+     * Server verdict on a predicted cast - rejected casts are rolled back
+     */
+    public void confirmSkillCast(int sequence, boolean accepted) {
+        PredictedCast cast = predictedCasts.remove(sequence);
+        if (cast == null || accepted) {
+            // Accepted casts are already part of the server state the next sync brings
+            return;
+        }
+
+        currentMana = Math.min(maxMana, currentMana + cast.manaCost);
+        if (cooldownEnds[cast.skillIndex] == cast.cooldownEnd) {
+            cooldownEnds[cast.skillIndex] = cast.previousCooldownEnd;
+            cooldownDurations[cast.skillIndex] = cast.previousCooldownDuration;
+        }
+    }
+
+    /**
+     * Roll back predictions the server never answered - the rate limiter doesn't reply to every dropped cast
+     * Called every client tick; predictions are kept in cast order, so only the oldest need checking
+     */
+    public void expirePredictedCasts() {
+        long now = getGameTime();
+        while (!predictedCasts.isEmpty()) {
+            Map.Entry<Integer, PredictedCast> oldest = predictedCasts.entrySet().iterator().next();
+            if (now - oldest.getValue().predictedAt < PREDICTION_TIMEOUT_TICKS) {
+                break;
+            }
+            confirmSkillCast(oldest.getKey(), false);
+        }
+    }
+
+    /**
+     * Lay still-unconfirmed predictions over freshly synced server state
+     */
+    private void reapplyPredictedCasts(int groups) {
+        if (predictedCasts.isEmpty()) return;
+
+        ensureCooldownCapacity();
+        for (PredictedCast cast : predictedCasts.values()) {
+            if ((groups & SYNC_RESOURCES) != 0) {
+                currentMana = Math.max(0, currentMana - cast.manaCost);
+            }
+            if ((groups & SYNC_COOLDOWNS) != 0 && cooldownEnds[cast.skillIndex] < cast.cooldownEnd) {
+                cooldownEnds[cast.skillIndex] = cast.cooldownEnd;
+                cooldownDurations[cast.skillIndex] = cast.cooldownDuration;
+            }
+        }
+    }
+
+    private long getGameTime() {
+        return player != null ? player.level().getGameTime() : 0;
+    }
+
+    private void ensureCooldownCapacity() {
+        int count = SkillRegistry.getSkillCount();
+        if (cooldownEnds.length < count) {
+            cooldownEnds = Arrays.copyOf(cooldownEnds, count);
+            cooldownDurations = Arrays.copyOf(cooldownDurations, count);
+        }
+    }
+
     /**
      * Create a skill instance for the player
      */
@@ -459,15 +792,19 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     public int getVitality() { return vitality; }
     public int getIntelligence() { return intelligence; }
 
+    public int getStatValue(Stat stat) {
+        return switch (stat) {
+            case STRENGTH -> strength;
+            case AGILITY -> agility;
+            case SENSE -> sense;
+            case VITALITY -> vitality;
+            case INTELLIGENCE -> intelligence;
+        };
+    }
+
     public int getStatValue(String statName) {
-        switch (statName.toLowerCase()) {
-            case "strength": return strength;
-            case "agility": return agility;
-            case "sense": return sense;
-            case "vitality": return vitality;
-            case "intelligence": return intelligence;
-            default: return 0;
-        }
+        Stat stat = Stat.byKey(statName);
+        return stat != null ? getStatValue(stat) : 0;
     }
 
     public String getCurrentTitle() { return currentTitle; }
@@ -479,62 +816,191 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     public void setSystemMessage(String message) {
         this.lastSystemMessage = message;
         this.messageTimestamp = System.currentTimeMillis();
+        markDirty(SYNC_MESSAGE);
     }
 
     // Admin setter methods for commands
+    /**
+     * Set the level - the XP requirement for the next level follows from the ExperienceCurve
+     */
     public void setLevel(int level) {
-        this.level = Math.max(1, level);
+        this.level = ExperienceCurve.clampLevel(level);
+        this.experienceToNext = ExperienceCurve.getRequirement(this.level);
+        this.experience = Math.min(experience, experienceToNext - 1);
+        markDirty(SYNC_CORE);
     }
 
     public void setExperience(int experience) {
-        this.experience = Math.max(0, experience);
-    }
-
-    public void setExperienceToNext(int experienceToNext) {
-        this.experienceToNext = Math.max(1, experienceToNext);
+        this.experience = Math.max(0, Math.min(experience, experienceToNext - 1));
+        markDirty(SYNC_CORE);
     }
 
     public void addAvailableAP(int amount) {
         this.availableAP = Math.max(0, this.availableAP + amount);
+        markDirty(SYNC_CORE);
     }
 
     public void setAvailableAP(int amount) {
         this.availableAP = Math.max(0, amount);
+        markDirty(SYNC_CORE);
     }
 
     public void setStrength(int strength) {
         this.strength = Math.max(0, strength);
+        markDirty(SYNC_CORE);
     }
 
     public void setAgility(int agility) {
         this.agility = Math.max(0, agility);
+        markDirty(SYNC_CORE);
     }
 
     public void setSense(int sense) {
         this.sense = Math.max(0, sense);
+        markDirty(SYNC_CORE);
     }
 
     public void setVitality(int vitality) {
         this.vitality = Math.max(0, vitality);
         updateMaxHealth();
+        markDirty(SYNC_CORE);
     }
 
     public void setIntelligence(int intelligence) {
         this.intelligence = Math.max(0, intelligence);
         updateMaxMana();
+        markDirty(SYNC_CORE);
     }
 
     // ===== SYNCHRONIZATION =====
 
     /**
-     * Sync capability data to the client
+     * Mark field groups as changed so the next sync includes them
+     * @param groups Bitmask of SYNC_* groups
+     */
+    public void markDirty(int groups) {
+        this.dirtyGroups |= groups;
+        this.unsavedChanges = true;
+    }
+
+    public boolean isDirty() {
+        return dirtyGroups != 0;
+    }
+
+    /**
+     * @return true if anything changed since the last save snapshot
+     */
+    public boolean hasUnsavedChanges() {
+        return unsavedChanges;
+    }
+
+    public void setUnsavedChanges(boolean unsavedChanges) {
+        this.unsavedChanges = unsavedChanges;
+    }
+
+    /**
+     * Sync changed field groups to the client as a delta
+     * Mutators only mark groups dirty; this is flushed once per server tick by CapabilitySyncEvents
+     * so any number of changes within a tick cost a single packet
+     * Held back while a full snapshot is still streaming to the client
      * Only works when called on the server side
      */
-    private void syncToClient(ServerPlayer serverPlayer) {
-        if (serverPlayer != null) {
-            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> serverPlayer),
-                new SyncCapabilityPacket(serializeNBT()));
+    public void syncToClient() {
+        if (player instanceof ServerPlayer serverPlayer && dirtyGroups != 0 && !SnapshotTransfer.isTransferring(serverPlayer)) {
+            ModNetworkRegistry.sendToPlayer(serverPlayer, new SyncCapabilityDeltaPacket(writeDelta()));
+        }
+    }
+
+    /**
+     * Send the complete capability state to the client
+     * Used on login, respawn, dimension change and when the client requests a resync
+     * The snapshot is compressed and streamed in chunks; changes made meanwhile stay dirty and follow as a delta
+     */
+    public void sendFullSnapshot() {
+        if (player instanceof ServerPlayer serverPlayer) {
+            clearDirty();
+            SnapshotTransfer.send(serverPlayer, writeSyncSnapshot());
+        }
+    }
+
+    private void clearDirty() {
+        dirtyGroups = 0;
+    }
+
+    /**
+     * Build a delta containing only the dirty field groups and reset dirty tracking
+     */
+    public CompoundTag writeDelta() {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("groups", dirtyGroups);
+
+        if ((dirtyGroups & SYNC_CORE) != 0) writeCoreData(tag);
+        if ((dirtyGroups & SYNC_RESOURCES) != 0) writeResourceData(tag);
+        if ((dirtyGroups & SYNC_MESSAGE) != 0) writeMessageData(tag);
+        if ((dirtyGroups & SYNC_SKILLS) != 0) writeSkillData(tag);
+        if ((dirtyGroups & SYNC_INVENTORY) != 0) writeInventoryHeader(tag);
+        if ((dirtyGroups & SYNC_COOLDOWNS) != 0) writeCooldownData(tag);
+
+        clearDirty();
+        return tag;
+    }
+
+    /**
+     * Apply a delta built by {@link #writeDelta()} on top of the current state (client side)
+     */
+    public void applyDelta(CompoundTag tag) {
+        int groups = tag.getInt("groups");
+
+        if ((groups & SYNC_CORE) != 0) {
+            readCoreData(tag);
+            coreUpdates++;
         }
+        if ((groups & SYNC_RESOURCES) != 0) readResourceData(tag);
+        if ((groups & SYNC_MESSAGE) != 0) readMessageData(tag);
+        if ((groups & SYNC_SKILLS) != 0) readSkillData(tag);
+        if ((groups & SYNC_INVENTORY) != 0) readInventoryHeader(tag);
+        if ((groups & SYNC_COOLDOWNS) != 0) readCooldownData(tag);
+        reapplyPredictedCasts(groups);
+    }
+
+    /**
+     * Count of core data updates applied on the client - lets the UI tell when its sent changes are confirmed
+     */
+    public int getCoreUpdates() {
+        return coreUpdates;
+    }
+
+    public boolean hasSnapshot() {
+        return hasSnapshot;
+    }
+
+    /**
+     * Build the full state sent to the client - like serializeNBT but with only the inventory header
+     */
+    public CompoundTag writeSyncSnapshot() {
+        CompoundTag tag = new CompoundTag();
+        writeCoreData(tag);
+        writeResourceData(tag);
+        writeMessageData(tag);
+        writeInventoryHeader(tag);
+        writeSkillData(tag);
+        writeCooldownData(tag);
+        return tag;
+    }
+
+    /**
+     * Replace the client copy with a full snapshot from the server
+     */
+    public void applySnapshot(CompoundTag tag) {
+        readCoreData(tag);
+        readResourceData(tag);
+        readMessageData(tag);
+        readInventoryHeader(tag);
+        readSkillData(tag);
+        readCooldownData(tag);
+        reapplyPredictedCasts(SYNC_ALL);
+        hasSnapshot = true;
+        coreUpdates++;
     }
 
     // ===== CAPABILITY INTERFACE =====
@@ -542,7 +1008,103 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
     @Override
     public CompoundTag serializeNBT() {
         CompoundTag tag = new CompoundTag();
+        writeCoreData(tag);
+        writeResourceData(tag);
+        writeMessageData(tag);
+        writeInventoryData(tag);
+        writeSkillData(tag);
+        writeCooldownData(tag);
+        return tag;
+    }
+
+    /**
+     * Capture what serializeNBT writes without building the inventory NBT
+     * Scalars, skills and cooldowns are small and go straight into a tag; the inventory is copied as flat
+     * arrays and only turned into NBT by {@link SaveSnapshot#toNBT()}, which SystemDataStorage runs on its writer
+     */
+    public SaveSnapshot createSaveSnapshot() {
+        CompoundTag tag = new CompoundTag();
+        writeCoreData(tag);
+        writeResourceData(tag);
+        writeMessageData(tag);
+        tag.putInt("gold", gold);
+        writeSkillData(tag);
+        writeCooldownData(tag);
+        return new SaveSnapshot(tag, systemInventory.snapshot());
+    }
+
+    /**
+     * Save state captured on the server thread - safe to hand to another thread
+     */
+    public record SaveSnapshot(CompoundTag data, SystemInventory.Snapshot inventory) {
+        /**
+         * @return The same tag serializeNBT would have produced when the snapshot was taken
+         */
+        public CompoundTag toNBT() {
+            CompoundTag tag = data.copy();
+            tag.put("systemInventory", inventory.save());
+            return tag;
+        }
+    }
+
+    @Override
+    public void deserializeNBT(CompoundTag tag) {
+        readCoreData(tag);
+        readResourceData(tag);
+        readMessageData(tag);
+        readInventoryData(tag);
+        readSkillData(tag);
+        readCooldownData(tag);
+    }
+
+    /**
+     * Move all state from the capability of a player being replaced (respawn, End return)
+     * Structures are handed over directly instead of round-tripping through NBT, so the inventory
+     * isn't re-parsed and skill levels aren't replayed. The old capability is left empty, sharing nothing
+     */
+    public void transferFrom(PlayerCapability old, Player player) {
+        this.level = old.level;
+        this.experience = old.experience;
+        this.experienceToNext = old.experienceToNext;
+        this.pendingBlockExperience = old.pendingBlockExperience;
+        this.availableAP = old.availableAP;
+        this.strength = old.strength;
+        this.agility = old.agility;
+        this.sense = old.sense;
+        this.vitality = old.vitality;
+        this.intelligence = old.intelligence;
+        this.currentMana = old.currentMana;
+        this.maxMana = old.maxMana;
+        this.currentTitle = old.currentTitle;
+        this.isShadowMonarch = old.isShadowMonarch;
+        this.lastSystemMessage = old.lastSystemMessage;
+        this.messageTimestamp = old.messageTimestamp;
+
+        this.systemInventory = old.systemInventory;
+        old.systemInventory = new SystemInventory(MAX_INVENTORY_SLOTS);
+        this.gold = old.gold;
+        this.inventoryVersion = old.inventoryVersion;
+
+        this.learnedSkills.clear();
+        this.learnedSkills.putAll(old.learnedSkills);
+        this.skillLevels.clear();
+        this.skillLevels.putAll(old.skillLevels);
+        old.learnedSkills.clear();
+        old.skillLevels.clear();
+
+        this.cooldownEnds = old.cooldownEnds;
+        this.cooldownDurations = old.cooldownDurations;
+        old.cooldownEnds = new long[0];
+        old.cooldownDurations = new int[0];
+
+        this.dirtyGroups = old.dirtyGroups;
+        this.unsavedChanges = old.unsavedChanges;
+
+        this.player = player;
+        old.player = null;
+    }
 
+    private void writeCoreData(CompoundTag tag) {
         // Leveling
         tag.putInt("level", level);
         tag.putInt("experience", experience);
@@ -556,43 +1118,12 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         tag.putInt("vitality", vitality);
         tag.putInt("intelligence", intelligence);
 
-        // Resources
-        tag.putFloat("currentMana", currentMana);
-        tag.putFloat("maxMana", maxMana);
-
         // Progression
         tag.putString("currentTitle", currentTitle);
         tag.putBoolean("isShadowMonarch", isShadowMonarch);
-
-        // Messages
-        tag.putString("lastSystemMessage", lastSystemMessage);
-        tag.putLong("messageTimestamp", messageTimestamp);
-        
-        // System Inventory
-        ListTag inventoryList = new ListTag();
-        for (ItemStack stack : systemInventory) {
-            if (!stack.isEmpty()) {
-                inventoryList.add(stack.save(new CompoundTag()));
-            }
-        }
-        tag.put("systemInventory", inventoryList);
-        tag.putInt("gold", gold);
-
-        // Skills
-        ListTag skillsList = new ListTag();
-        for (java.util.Map.Entry<ResourceLocation, Skill> entry : learnedSkills.entrySet()) {
-            CompoundTag skillTag = new CompoundTag();
-            skillTag.putString("id", entry.getKey().toString());
-            skillTag.putInt("level", entry.getValue().getCurrentLevel());
-            skillsList.add(skillTag);
-        }
-        tag.put("learnedSkills", skillsList);
-
-        return tag;
     }
 
-    @Override
-    public void deserializeNBT(CompoundTag tag) {
+    private void readCoreData(CompoundTag tag) {
         // Leveling
         level = tag.getInt("level");
         experience = tag.getInt("experience");
@@ -606,32 +1137,77 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         vitality = tag.getInt("vitality");
         intelligence = tag.getInt("intelligence");
 
-        // Resources
-        currentMana = tag.getFloat("currentMana");
-        maxMana = tag.getFloat("maxMana");
-
         // Progression
         currentTitle = tag.getString("currentTitle");
         isShadowMonarch = tag.getBoolean("isShadowMonarch");
+    }
+
+    private void writeResourceData(CompoundTag tag) {
+        tag.putFloat("currentMana", currentMana);
+        tag.putFloat("maxMana", maxMana);
+    }
+
+    private void readResourceData(CompoundTag tag) {
+        currentMana = tag.getFloat("currentMana");
+        maxMana = tag.getFloat("maxMana");
+    }
+
+    private void writeMessageData(CompoundTag tag) {
+        tag.putString("lastSystemMessage", lastSystemMessage);
+        tag.putLong("messageTimestamp", messageTimestamp);
+    }
 
-        // Messages
+    private void readMessageData(CompoundTag tag) {
         lastSystemMessage = tag.getString("lastSystemMessage");
         messageTimestamp = tag.getLong("messageTimestamp");
-        
-        // System Inventory
+    }
+
+    private void writeInventoryData(CompoundTag tag) {
+        ListTag inventoryList = new ListTag();
+        for (SystemInventory.Entry entry : systemInventory.getEntries()) {
+            inventoryList.add(SystemInventory.saveEntry(entry));
+        }
+        tag.put("systemInventory", inventoryList);
+        tag.putInt("gold", gold);
+    }
+
+    private void readInventoryData(CompoundTag tag) {
         systemInventory.clear();
+        sortedView = null;
         if (tag.contains("systemInventory", Tag.TAG_LIST)) {
             ListTag inventoryList = tag.getList("systemInventory", Tag.TAG_COMPOUND);
             for (int i = 0; i < inventoryList.size(); i++) {
-                ItemStack stack = ItemStack.of(inventoryList.getCompound(i));
-                if (!stack.isEmpty()) {
-                    systemInventory.add(stack);
-                }
+                // Duplicate entries from older saves merge into one slot
+                systemInventory.loadEntry(inventoryList.getCompound(i));
             }
         }
         gold = tag.getInt("gold");
+    }
+
+    private void writeInventoryHeader(CompoundTag tag) {
+        tag.putInt("inventorySize", systemInventory.size());
+        tag.putInt("inventoryVersion", inventoryVersion);
+        tag.putInt("gold", gold);
+    }
+
+    private void readInventoryHeader(CompoundTag tag) {
+        syncedInventorySize = tag.getInt("inventorySize");
+        inventoryVersion = tag.getInt("inventoryVersion");
+        gold = tag.getInt("gold");
+    }
 
-        // Skills
+    private void writeSkillData(CompoundTag tag) {
+        ListTag skillsList = new ListTag();
+        for (java.util.Map.Entry<ResourceLocation, Skill> entry : learnedSkills.entrySet()) {
+            CompoundTag skillTag = new CompoundTag();
+            skillTag.putString("id", entry.getKey().toString());
+            skillTag.putInt("level", entry.getValue().getCurrentLevel());
+            skillsList.add(skillTag);
+        }
+        tag.put("learnedSkills", skillsList);
+    }
+
+    private void readSkillData(CompoundTag tag) {
         learnedSkills.clear();
         skillLevels.clear();
         if (tag.contains("learnedSkills", Tag.TAG_LIST)) {
@@ -657,6 +1233,41 @@ public class PlayerCapability implements ICapabilitySerializable<CompoundTag> {
         }
     }
 
+    private void writeCooldownData(CompoundTag tag) {
+        // Cooldowns are saved by skill ID so index changes between versions don't matter
+        ListTag cooldownList = new ListTag();
+        long now = getGameTime();
+        for (int i = 0; i < cooldownEnds.length; i++) {
+            ResourceLocation skillId = SkillRegistry.getId(i);
+            if (skillId != null && cooldownEnds[i] > now) {
+                CompoundTag cooldownTag = new CompoundTag();
+                cooldownTag.putString("id", skillId.toString());
+                cooldownTag.putLong("end", cooldownEnds[i]);
+                cooldownTag.putInt("duration", cooldownDurations[i]);
+                cooldownList.add(cooldownTag);
+            }
+        }
+        tag.put("skillCooldowns", cooldownList);
+    }
+
+    private void readCooldownData(CompoundTag tag) {
+        ensureCooldownCapacity();
+        Arrays.fill(cooldownEnds, 0);
+        Arrays.fill(cooldownDurations, 0);
+        if (tag.contains("skillCooldowns", Tag.TAG_LIST)) {
+            ListTag cooldownList = tag.getList("skillCooldowns", Tag.TAG_COMPOUND);
+            for (int i = 0; i < cooldownList.size(); i++) {
+                CompoundTag cooldownTag = cooldownList.getCompound(i);
+                ResourceLocation skillId = ResourceLocation.tryParse(cooldownTag.getString("id"));
+                int index = skillId != null ? SkillRegistry.getIndex(skillId) : -1;
+                if (index >= 0) {
+                    cooldownEnds[index] = cooldownTag.getLong("end");
+                    cooldownDurations[index] = cooldownTag.getInt("duration");
+                }
+            }
+        }
+    }
+
     // ===== CAPABILITY PROVIDER =====
 
     private final LazyOptional<PlayerCapability> lazyOptional = LazyOptional.of(() -> this);
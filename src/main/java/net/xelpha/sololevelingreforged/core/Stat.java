@@ -0,0 +1,44 @@
+package net.xelpha.sololevelingreforged.core;
+
+/**
+ * The five allocatable stats
+ * Ordinals double as the stat IDs sent over the network (see NetworkIdTable)
+ */
+public enum Stat {
+    STRENGTH("strength"),        // Physical damage, carry weight
+    AGILITY("agility"),          // Movement speed, attack speed, dodge
+    SENSE("sense"),              // Accuracy, perception, enemy detection
+    VITALITY("vitality"),        // Max HP, defense, stamina
+    INTELLIGENCE("intelligence"); // Max Mana, magic damage
+
+    private static final Stat[] VALUES = values();
+
+    private final String key;
+
+    Stat(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return The stat with this ID, or null if out of range
+     */
+    public static Stat byId(int id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+    }
+
+    /**
+     * @return The stat with this key (case-insensitive), or null
+     */
+    public static Stat byKey(String key) {
+        for (Stat stat : VALUES) {
+            if (stat.key.equalsIgnoreCase(key)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,160 @@
+package net.xelpha.sololevelingreforged.core;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-game microbenchmarks behind /system benchmark
+ * They run on the live server with its real registries, JIT and data, which a standalone harness couldn't
+ * reproduce for a Forge mod. Each result is the average of several timed rounds after untimed warmup rounds
+ */
+public final class SystemBenchmarks {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int TIMED_ROUNDS = 10;
+    private static final int KILLS_PER_ROUND = 10_000;
+
+    // Keeps results observable so the JIT can't drop the benchmarked work
+    private static volatile long sink;
+
+    private SystemBenchmarks() {}
+
+    /**
+     * Average time for one round of a System Inventory fill
+     * @param linearMillis The old list scan with ItemStack.isSameItemSameTags
+     * @param indexedMillis SystemInventory and its item + tag index
+     */
+    public record InventoryFillResult(int slots, double linearMillis, double indexedMillis) {}
+
+    /**
+     * Fill every slot with a distinct stack, then store each stack again so it merges into its slot -
+     * the bulk deposit pattern that was O(n²) with the old scan
+     */
+    public static InventoryFillResult benchmarkInventoryFill() {
+        List<ItemStack> stacks = createDistinctStacks(PlayerCapability.MAX_INVENTORY_SLOTS);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            fillLinear(stacks);
+            fillIndexed(stacks);
+        }
+
+        long linear = 0;
+        long indexed = 0;
+        for (int i = 0; i < TIMED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            fillLinear(stacks);
+            linear += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            fillIndexed(stacks);
+            indexed += System.nanoTime() - start;
+        }
+
+        return new InventoryFillResult(stacks.size(), toMillis(linear), toMillis(indexed));
+    }
+
+    /**
+     * Stacks that never merge with each other - same item, a different tag each
+     */
+    private static List<ItemStack> createDistinctStacks(int count) {
+        List<ItemStack> stacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ItemStack stack = new ItemStack(Items.PAPER, 16);
+            CompoundTag tag = new CompoundTag();
+            tag.putInt("sololeveling_benchmark", i);
+            stack.setTag(tag);
+            stacks.add(stack);
+        }
+        return stacks;
+    }
+
+    /**
+     * The System Inventory as it was before the index - a list scanned on every store
+     */
+    private static void fillLinear(List<ItemStack> stacks) {
+        List<ItemStack> inventory = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {
+            for (ItemStack stack : stacks) {
+                boolean merged = false;
+                for (ItemStack existing : inventory) {
+                    if (ItemStack.isSameItemSameTags(existing, stack)) {
+                        existing.grow(stack.getCount());
+                        merged = true;
+                        break;
+                    }
+                }
+                if (!merged && inventory.size() < PlayerCapability.MAX_INVENTORY_SLOTS) {
+                    inventory.add(stack.copy());
+                }
+            }
+        }
+        sink += inventory.size();
+    }
+
+    private static void fillIndexed(List<ItemStack> stacks) {
+        SystemInventory inventory = new SystemInventory(PlayerCapability.MAX_INVENTORY_SLOTS);
+        for (int pass = 0; pass < 2; pass++) {
+            for (ItemStack stack : stacks) {
+                inventory.add(stack);
+            }
+        }
+        sink += inventory.size();
+    }
+
+    /**
+     * Average cost of the kill XP death handler
+     */
+    public record KillExperienceResult(int kills, double nanosPerKill) {}
+
+    /**
+     * Time the death handler's work for a zombie kill - capability lookup plus the whole modifier chain
+     * The chain runs against a scratch capability and the player's anti-farm history is restored afterwards,
+     * so nothing is granted and nothing about the player changes
+     * @return null if the target mob couldn't be created
+     */
+    @Nullable
+    public static KillExperienceResult benchmarkKillExperience(ServerPlayer player) {
+        Zombie target = EntityType.ZOMBIE.create(player.serverLevel()); // Never added to the level
+        if (target == null) return null;
+
+        PlayerCapability scratch = new PlayerCapability();
+        scratch.setPlayer(player);
+
+        long[] elapsed = new long[1];
+        KillExperiencePipeline.withDetachedHistory(player.getUUID(), () -> {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                runKills(player, scratch, target);
+            }
+            for (int i = 0; i < TIMED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                runKills(player, scratch, target);
+                elapsed[0] += System.nanoTime() - start;
+            }
+        });
+
+        return new KillExperienceResult(KILLS_PER_ROUND, elapsed[0] / (double) (TIMED_ROUNDS * KILLS_PER_ROUND));
+    }
+
+    private static void runKills(ServerPlayer player, PlayerCapability scratch, LivingEntity target) {
+        long total = 0;
+        for (int i = 0; i < KILLS_PER_ROUND; i++) {
+            if (player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).isPresent()) {
+                total += KillExperiencePipeline.computeKillExperience(player, scratch, target);
+            }
+        }
+        sink += total;
+    }
+
+    private static double toMillis(long totalNanos) {
+        return totalNanos / (double) TIMED_ROUNDS / 1_000_000.0;
+    }
+}
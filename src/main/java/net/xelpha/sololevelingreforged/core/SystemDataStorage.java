@@ -0,0 +1,163 @@
+package net.xelpha.sololevelingreforged.core;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Per-player persistence for System data
+ * Each player's PlayerCapability is written to its own file under the world directory instead of the
+ * player's NBT. The server thread only copies the state into a snapshot; building the NBT, compression,
+ * writing and fsync run on a single background writer so autosaves don't stall the tick. Unchanged players
+ * are skipped entirely
+ */
+public class SystemDataStorage {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final String DATA_DIR = "sololevelingreforged/playerdata";
+
+    // One writer keeps writes for the same player in order
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SoloLeveling System Data Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Snapshots queued but not yet on disk - loads read these first so a quick relog sees the latest data.
+    // A snapshot whose write failed stays here until a later write for the player succeeds
+    private static final Map<UUID, PendingWrite> PENDING = new ConcurrentHashMap<>();
+
+    // Players whose last write failed - drained on the server thread, which marks their data unsaved again
+    private static final Set<UUID> FAILED = ConcurrentHashMap.newKeySet();
+
+    private SystemDataStorage() {}
+
+    /**
+     * Queue a player's System data for writing if it changed since the last save, or the last write failed
+     * Must be called on the server thread
+     */
+    public static void save(MinecraftServer server, UUID playerId, PlayerCapability cap) {
+        if (FAILED.remove(playerId)) {
+            cap.setUnsavedChanges(true);
+        }
+        if (!cap.hasUnsavedChanges()) {
+            return;
+        }
+
+        // Cleared now so changes made while the write is in flight mark the data unsaved again
+        PendingWrite pending = new PendingWrite(getDataFile(server, playerId), cap.createSaveSnapshot());
+        cap.setUnsavedChanges(false);
+
+        PENDING.put(playerId, pending);
+        WRITER.execute(() -> write(playerId, pending));
+    }
+
+    /**
+     * Load a player's System data into the capability
+     * Players without a file keep whatever was loaded from their NBT (older worlds) and are
+     * written to their own file on the next save
+     */
+    public static void load(MinecraftServer server, UUID playerId, PlayerCapability cap) {
+        PendingWrite pending = PENDING.get(playerId);
+        CompoundTag tag = pending != null ? pending.snapshot().toNBT() : null;
+        if (tag == null) {
+            Path file = getDataFile(server, playerId);
+            if (!Files.exists(file)) {
+                return;
+            }
+            try {
+                tag = NbtIo.readCompressed(file.toFile());
+            } catch (IOException e) {
+                LOGGER.error("Failed to load System data for {}", playerId, e);
+                return;
+            }
+        }
+
+        cap.deserializeNBT(tag);
+        cap.setUnsavedChanges(false);
+    }
+
+    /**
+     * Block until every queued write is on disk, retrying failed writes of players who already left
+     * Called when the server stops so nothing is lost on shutdown
+     */
+    public static void flush() {
+        try {
+            WRITER.submit(() -> {
+                for (Map.Entry<UUID, PendingWrite> entry : PENDING.entrySet()) {
+                    write(entry.getKey(), entry.getValue());
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Failed to flush System data writes", e);
+        }
+    }
+
+    /**
+     * Build and write one snapshot (writer thread)
+     * On failure the snapshot stays pending and the player is flagged so their next save retries
+     */
+    private static void write(UUID playerId, PendingWrite pending) {
+        try {
+            write(pending.file(), pending.snapshot().toNBT());
+            PENDING.remove(playerId, pending);
+        } catch (IOException e) {
+            LOGGER.error("Failed to save System data for {}", playerId, e);
+            FAILED.add(playerId);
+        }
+    }
+
+    private static Path getDataFile(MinecraftServer server, UUID playerId) {
+        return server.getWorldPath(LevelResource.ROOT).resolve(DATA_DIR).resolve(playerId + ".dat");
+    }
+
+    /**
+     * Write to a temp file, fsync, then move it over the old file so a crash never leaves a torn save
+     */
+    private static void write(Path file, CompoundTag tag) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(tag, bytes);
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record PendingWrite(Path file, PlayerCapability.SaveSnapshot snapshot) {}
+}
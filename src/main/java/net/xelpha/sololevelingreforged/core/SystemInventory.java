@@ -0,0 +1,306 @@
+package net.xelpha.sololevelingreforged.core;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Storage behind the System Inventory
+ * Each slot is a compact Entry (item, shared tag, shared Forge capability data, long count) rather than a full ItemStack -
+ * real stacks are only built when something is withdrawn. An index from item + tag identity
+ * to slot keeps storing, merging and "do I have X" lookups constant time
+ */
+public class SystemInventory {
+
+    // Identical tags (enchanted books, potions, ...) share one instance across all players
+    private static final Interner<CompoundTag> TAG_INTERNER = Interners.newWeakInterner();
+
+    // Where ItemStack saves Forge capability data (energy, fluids, ... on modded items)
+    private static final String CAPS_KEY = "ForgeCaps";
+
+    private final int maxSlots;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<StackKey, Integer> slotIndex = new HashMap<>();
+
+    public SystemInventory(int maxSlots) {
+        this.maxSlots = maxSlots;
+    }
+
+    /**
+     * Store a stack, merging into the existing slot for the same item, tags and capability data
+     * The caller's stack is left untouched
+     * @return The slot the stack went into, or -1 if a new slot was needed and the inventory is full
+     */
+    public int add(ItemStack stack) {
+        return add(stack.getItem(), stack.getTag(), getCapabilityTag(stack), stack.getCount());
+    }
+
+    private int add(Item item, CompoundTag tag, CompoundTag caps, long count) {
+        Integer slot = slotIndex.get(new StackKey(item, tag, caps));
+        if (slot != null) {
+            // System inventory has NO stack limit - add all to existing
+            entries.get(slot).grow(count);
+            return slot;
+        }
+
+        if (entries.size() >= maxSlots) {
+            return -1;
+        }
+
+        Entry entry = new Entry(item, intern(tag), intern(caps), count);
+        entries.add(entry);
+        slotIndex.put(new StackKey(entry.item, entry.tag, entry.caps), entries.size() - 1);
+        return entries.size() - 1;
+    }
+
+    /**
+     * Remove items from a slot
+     * The slot is removed once it runs empty - later slots shift down by one
+     * @return The number of items actually removed
+     */
+    public long shrink(int slot, long amount) {
+        if (slot < 0 || slot >= entries.size() || amount <= 0) {
+            return 0;
+        }
+
+        Entry entry = entries.get(slot);
+        long removed = Math.min(amount, entry.count);
+        entry.count -= removed;
+        if (entry.count <= 0) {
+            remove(slot);
+        }
+        return removed;
+    }
+
+    private void remove(int slot) {
+        Entry removed = entries.remove(slot);
+        slotIndex.remove(new StackKey(removed.item, removed.tag, removed.caps));
+        for (int i = slot; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            slotIndex.put(new StackKey(entry.item, entry.tag, entry.caps), i);
+        }
+    }
+
+    /**
+     * @return The slot holding the same item and tags as the given stack, or -1
+     */
+    public int find(ItemStack stack) {
+        Integer slot = slotIndex.get(new StackKey(stack.getItem(), stack.getTag(), getCapabilityTag(stack)));
+        return slot != null ? slot : -1;
+    }
+
+    public boolean contains(ItemStack stack) {
+        return slotIndex.containsKey(new StackKey(stack.getItem(), stack.getTag(), getCapabilityTag(stack)));
+    }
+
+    /**
+     * @return The entry in a slot, or null if the slot is out of range
+     */
+    public Entry get(int slot) {
+        return slot >= 0 && slot < entries.size() ? entries.get(slot) : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Read-only view of the slots in storage order
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public void clear() {
+        entries.clear();
+        slotIndex.clear();
+    }
+
+    private static CompoundTag intern(CompoundTag tag) {
+        return tag != null ? TAG_INTERNER.intern(tag.copy()) : null;
+    }
+
+    /**
+     * The Forge capability data the stack would save, or null if it has none
+     * ItemStack doesn't expose it directly, so it's read back from the stack's saved form
+     */
+    private static CompoundTag getCapabilityTag(ItemStack stack) {
+        CompoundTag saved = stack.serializeNBT();
+        return saved.contains(CAPS_KEY, Tag.TAG_COMPOUND) ? saved.getCompound(CAPS_KEY) : null;
+    }
+
+    /**
+     * Save one entry - same layout as ItemStack.save but with a long Count
+     * Interned tags are never modified, so the saved entry shares it instead of copying;
+     * this keeps save snapshots cheap and safe to hand to the writer thread
+     */
+    public static CompoundTag saveEntry(Entry entry) {
+        return saveEntry(entry.item, entry.tag, entry.caps, entry.count);
+    }
+
+    private static CompoundTag saveEntry(Item item, CompoundTag itemTag, CompoundTag caps, long count) {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("id", BuiltInRegistries.ITEM.getKey(item).toString());
+        tag.putLong("Count", count);
+        if (itemTag != null) {
+            tag.put("tag", itemTag);
+        }
+        if (caps != null) {
+            tag.put(CAPS_KEY, caps);
+        }
+        return tag;
+    }
+
+    /**
+     * Flat copy of every slot for saving - a few array copies on the server thread, no NBT
+     * The tags are interned and never modified, so the snapshot can be saved from another thread
+     */
+    public Snapshot snapshot() {
+        int size = entries.size();
+        Item[] items = new Item[size];
+        CompoundTag[] tags = new CompoundTag[size];
+        CompoundTag[] caps = new CompoundTag[size];
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            items[i] = entry.item;
+            tags[i] = entry.tag;
+            caps[i] = entry.caps;
+            counts[i] = entry.count;
+        }
+        return new Snapshot(items, tags, caps, counts);
+    }
+
+    /**
+     * Load one saved entry, merging it into the matching slot if there is one
+     * Also reads the older ItemStack layout, whose Count was a single byte
+     */
+    public void loadEntry(CompoundTag tag) {
+        ResourceLocation id = ResourceLocation.tryParse(tag.getString("id"));
+        Item item = id != null ? BuiltInRegistries.ITEM.get(id) : Items.AIR;
+        long count = tag.getTagType("Count") == Tag.TAG_BYTE
+            ? Byte.toUnsignedInt(tag.getByte("Count"))
+            : tag.getLong("Count");
+
+        if (item != Items.AIR && count > 0) {
+            add(item,
+                tag.contains("tag", Tag.TAG_COMPOUND) ? tag.getCompound("tag") : null,
+                tag.contains(CAPS_KEY, Tag.TAG_COMPOUND) ? tag.getCompound(CAPS_KEY) : null,
+                count);
+        }
+    }
+
+    /**
+     * One System Inventory slot
+     * The tag and capability data are interned and shared - they are never handed out without copying
+     */
+    public static final class Entry {
+        private final Item item;
+        private final CompoundTag tag;
+        private final CompoundTag caps; // Forge capability data, or null
+        private long count;
+        private String sortName; // Display name, built on first sort - item and tag never change
+
+        private Entry(Item item, CompoundTag tag, CompoundTag caps, long count) {
+            this.item = item;
+            this.tag = tag;
+            this.caps = caps;
+            this.count = count;
+        }
+
+        public Item getItem() {
+            return item;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public boolean hasTag() {
+            return tag != null;
+        }
+
+        /**
+         * @return A copy of this entry's tag, or null
+         */
+        public CompoundTag copyTag() {
+            return tag != null ? tag.copy() : null;
+        }
+
+        /**
+         * Build a real stack of this item - used for withdrawing and display
+         */
+        public ItemStack createStack(int count) {
+            ItemStack stack = new ItemStack(item, count, caps != null ? caps.copy() : null);
+            stack.setTag(copyTag());
+            return stack;
+        }
+
+        public Component getHoverName() {
+            return createStack(1).getHoverName();
+        }
+
+        /**
+         * The display name as a string, built once per entry so sorting doesn't create a stack per comparison
+         */
+        public String getSortName() {
+            if (sortName == null) {
+                sortName = getHoverName().getString();
+            }
+            return sortName;
+        }
+
+        private void grow(long amount) {
+            // Saturate instead of wrapping - nobody is farming 9 quintillion of anything
+            count = count > Long.MAX_VALUE - amount ? Long.MAX_VALUE : count + amount;
+        }
+    }
+
+    /**
+     * Slots captured by {@link #snapshot()}
+     */
+    public record Snapshot(Item[] items, CompoundTag[] tags, CompoundTag[] caps, long[] counts) {
+        /**
+         * Build the saved slot list - same layout as writing each entry with saveEntry
+         */
+        public ListTag save() {
+            ListTag list = new ListTag();
+            for (int i = 0; i < items.length; i++) {
+                list.add(saveEntry(items[i], tags[i], caps[i], counts[i]));
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Identity of a stack for merging - same item, equal tags and equal capability data
+     */
+    private record StackKey(Item item, CompoundTag tag, CompoundTag caps) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StackKey other && item == other.item
+                && Objects.equals(tag, other.tag) && Objects.equals(caps, other.caps);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * System.identityHashCode(item) + (tag != null ? tag.hashCode() : 0);
+            return 31 * hash + (caps != null ? caps.hashCode() : 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.xelpha.sololevelingreforged.entity;
+
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Live shadow soldiers per level, indexed by owner
+ * Kept up to date from entity join/leave events (see ShadowArmyEvents), so army counts and army-wide skills
+ * cost O(army size) instead of scanning the world. A soldier changing dimension leaves one level's index
+ * and joins the other's. Server thread only
+ */
+public final class ShadowArmyRegistry {
+
+    private static final Map<ServerLevel, Map<UUID, Set<ShadowSoldierEntity>>> ARMIES = new IdentityHashMap<>();
+
+    private ShadowArmyRegistry() {}
+
+    static void add(ShadowSoldierEntity soldier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return;
+
+        ARMIES.computeIfAbsent(level, l -> new HashMap<>())
+            .computeIfAbsent(ownerId, id -> new LinkedHashSet<>())
+            .add(soldier);
+    }
+
+    static void remove(ShadowSoldierEntity soldier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return;
+
+        Map<UUID, Set<ShadowSoldierEntity>> owners = ARMIES.get(level);
+        if (owners == null) return;
+
+        Set<ShadowSoldierEntity> army = owners.get(ownerId);
+        if (army != null && army.remove(soldier) && army.isEmpty()) {
+            owners.remove(ownerId);
+        }
+    }
+
+    /**
+     * A player's soldiers in one level (read-only view, may include soldiers in their death animation)
+     */
+    public static Collection<ShadowSoldierEntity> getArmy(ServerLevel level, UUID ownerId) {
+        Map<UUID, Set<ShadowSoldierEntity>> owners = ARMIES.get(level);
+        Set<ShadowSoldierEntity> army = owners != null ? owners.get(ownerId) : null;
+        return army != null ? Collections.unmodifiableSet(army) : Collections.emptySet();
+    }
+
+    /**
+     * Number of living soldiers a player has across all levels
+     */
+    public static int getArmySize(UUID ownerId) {
+        int size = 0;
+        for (Map<UUID, Set<ShadowSoldierEntity>> owners : ARMIES.values()) {
+            Set<ShadowSoldierEntity> army = owners.get(ownerId);
+            if (army == null) continue;
+
+            for (ShadowSoldierEntity soldier : army) {
+                if (soldier.isAlive()) size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Visit every soldier a player has, in all levels
+     */
+    public static void forEachSoldier(UUID ownerId, Consumer<ShadowSoldierEntity> action) {
+        for (Map<UUID, Set<ShadowSoldierEntity>> owners : ARMIES.values()) {
+            Set<ShadowSoldierEntity> army = owners.get(ownerId);
+            if (army != null) {
+                army.forEach(action);
+            }
+        }
+    }
+
+    public static void clearLevel(ServerLevel level) {
+        ARMIES.remove(level);
+    }
+
+    public static void clear() {
+        ARMIES.clear();
+    }
+}
@@ -12,16 +12,18 @@ import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.goal.*;
-import net.minecraft.world.entity.ai.goal.target.HurtByTargetGoal;
-import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.xelpha.sololevelingreforged.ModEntities;
+import net.xelpha.sololevelingreforged.entity.ai.LodGatedGoal;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowAiLod;
 import net.xelpha.sololevelingreforged.entity.ai.ShadowSoldierFollowGoal;
 import net.xelpha.sololevelingreforged.entity.ai.ShadowSoldierAttackGoal;
-import net.xelpha.sololevelingreforged.entity.ai.ShadowSoldierDefendGoal;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowFollowPlanner;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowSquadCoordinator;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowSquadTargetGoal;
 
 import javax.annotation.Nullable;
 import java.util.UUID;
@@ -33,6 +35,15 @@ import java.util.UUID;
 public class ShadowSoldierEntity extends Monster {
 
     private UUID ownerUUID;
+    private boolean inArmyRegistry = false; // Indexed in ShadowArmyRegistry under ownerUUID
+
+    // Resolved owner (null = offline), reused until ShadowArmyEvents invalidates it
+    @Nullable
+    private ServerPlayer cachedOwner;
+    private boolean ownerResolved = false;
+
+    // Set in registerGoals, which runs from the Mob constructor - no initializer, or it would be reset to null
+    private ShadowAiLod aiLod;
     private LivingEntity sourceEntity; // The entity this shadow was extracted from
 
     // Shadow soldier properties
@@ -75,17 +86,17 @@ public class ShadowSoldierEntity extends Monster {
 
     @Override
     protected void registerGoals() {
+        // Idle goals far from any player run at a reduced rate; swimming and combat always run every tick
+        this.aiLod = new ShadowAiLod(this);
+
         // Core AI goals
         this.goalSelector.addGoal(1, new FloatGoal(this));
-        this.goalSelector.addGoal(2, new ShadowSoldierFollowGoal(this));
+        this.goalSelector.addGoal(2, new LodGatedGoal(this, aiLod, new ShadowSoldierFollowGoal(this)));
         this.goalSelector.addGoal(3, new ShadowSoldierAttackGoal(this, 1.0D, true));
-        this.goalSelector.addGoal(4, new RandomLookAroundGoal(this));
+        this.goalSelector.addGoal(4, new LodGatedGoal(this, aiLod, new RandomLookAroundGoal(this)));
 
-        // Target selection
-        this.targetSelector.addGoal(1, new HurtByTargetGoal(this));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, Monster.class, true,
-            entity -> isValidTarget(entity)));
-        this.targetSelector.addGoal(3, new ShadowSoldierDefendGoal(this));
+        // Target selection - handed out by the squad (defends the owner and the squad, spreads across enemies)
+        this.targetSelector.addGoal(1, new LodGatedGoal(this, aiLod, new ShadowSquadTargetGoal(this)));
     }
 
     private void inheritStats(LivingEntity sourceEntity) {
@@ -110,30 +121,68 @@ public class ShadowSoldierEntity extends Monster {
         // For now, we use the base monster appearance with dark effects
     }
 
-    private boolean isValidTarget(LivingEntity entity) {
-        // Don't attack the owner or other shadow soldiers owned by the same player
-        if (entity == getOwner()) return false;
+    // ===== OWNER MANAGEMENT =====
 
-        if (entity instanceof ShadowSoldierEntity shadowSoldier) {
-            return !shadowSoldier.isOwnedBy(getOwner());
+    public void bindToPlayer(ServerPlayer player) {
+        if (inArmyRegistry) {
+            // Move to the new owner's army
+            ShadowArmyRegistry.remove(this);
+            this.ownerUUID = player.getUUID();
+            ShadowArmyRegistry.add(this);
+        } else {
+            this.ownerUUID = player.getUUID();
         }
+        invalidateOwnerCache();
+    }
 
-        // Attack all other living entities (including players who aren't the owner)
-        return true;
+    @Nullable
+    public UUID getOwnerUUID() {
+        return this.ownerUUID;
     }
 
-    // ===== OWNER MANAGEMENT =====
+    /**
+     * Called when this soldier is added to a server level
+     */
+    public void onJoinedLevel() {
+        ShadowArmyRegistry.add(this);
+        inArmyRegistry = true;
+        invalidateOwnerCache();
+    }
 
-    public void bindToPlayer(ServerPlayer player) {
-        this.ownerUUID = player.getUUID();
+    /**
+     * Called when this soldier is removed from a server level (death, unload or dimension change)
+     */
+    public void onLeftLevel() {
+        ShadowArmyRegistry.remove(this);
+        ShadowSquadCoordinator.onSoldierLeft(this);
+        ShadowFollowPlanner.onSoldierLeft(this);
+        inArmyRegistry = false;
+        invalidateOwnerCache();
     }
 
+    /**
+     * The owner if online - resolved once and cached, so goal predicates only read a field
+     */
     @Nullable
     public ServerPlayer getOwner() {
+        if (ownerResolved && (cachedOwner == null || !cachedOwner.isRemoved())) {
+            return cachedOwner;
+        }
+
+        cachedOwner = null;
         if (this.ownerUUID != null && this.level() instanceof ServerLevel serverLevel) {
-            return serverLevel.getServer().getPlayerList().getPlayer(this.ownerUUID);
+            cachedOwner = serverLevel.getServer().getPlayerList().getPlayer(this.ownerUUID);
+            ownerResolved = true;
         }
-        return null;
+        return cachedOwner;
+    }
+
+    /**
+     * Forget the resolved owner - on owner login, logout, respawn and dimension change
+     */
+    public void invalidateOwnerCache() {
+        cachedOwner = null;
+        ownerResolved = false;
     }
 
     public boolean isOwnedBy(@Nullable Player player) {
@@ -149,6 +198,11 @@ public class ShadowSoldierEntity extends Monster {
             return false; // Owner cannot damage their own shadows
         }
 
+        // Fight back at full AI rate
+        if (aiLod != null) {
+            aiLod.wake();
+        }
+
         // Take reduced damage from all sources (shadows are durable)
         float reducedAmount = amount * 0.7F;
         return super.hurt(source, reducedAmount);
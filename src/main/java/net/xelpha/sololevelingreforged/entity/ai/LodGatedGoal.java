@@ -0,0 +1,90 @@
+package net.xelpha.sololevelingreforged.entity.ai;
+
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.Goal;
+
+/**
+ * Runs a goal at the rate chosen by the soldier's ShadowAiLod
+ * Counts the goal selector's calls rather than game ticks, since the selector itself only runs start checks
+ * (and ticks goals that don't need every tick) every other game tick - an interval of N passes N - 1 calls
+ * through to nothing. At full rate it behaves exactly like the wrapped goal. Work shows up under the
+ * "sololeveling_shadow_ai" profiler section
+ */
+public class LodGatedGoal extends Goal {
+
+    private final Mob mob;
+    private final Goal delegate;
+    private final ShadowAiLod lod;
+    private final String profilerName;
+
+    private int skippedEvaluations;
+    private int skippedTicks;
+
+    public LodGatedGoal(Mob mob, ShadowAiLod lod, Goal delegate) {
+        this.mob = mob;
+        this.delegate = delegate;
+        this.lod = lod;
+        this.profilerName = delegate.getClass().getSimpleName();
+        this.setFlags(delegate.getFlags());
+    }
+
+    @Override
+    public boolean canUse() {
+        if (++skippedEvaluations < lod.getInterval()) {
+            mob.level().getProfiler().incrementCounter("sololeveling_shadow_ai_skipped");
+            return false;
+        }
+        skippedEvaluations = 0;
+
+        ProfilerFiller profiler = mob.level().getProfiler();
+        profiler.push("sololeveling_shadow_ai");
+        profiler.push(profilerName);
+        boolean canUse = delegate.canUse();
+        profiler.pop();
+        profiler.pop();
+        return canUse;
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        return delegate.canContinueToUse();
+    }
+
+    @Override
+    public boolean isInterruptable() {
+        return delegate.isInterruptable();
+    }
+
+    @Override
+    public void start() {
+        skippedTicks = 0;
+        delegate.start();
+    }
+
+    @Override
+    public void stop() {
+        delegate.stop();
+    }
+
+    @Override
+    public boolean requiresUpdateEveryTick() {
+        return delegate.requiresUpdateEveryTick();
+    }
+
+    @Override
+    public void tick() {
+        if (++skippedTicks < lod.getInterval()) {
+            mob.level().getProfiler().incrementCounter("sololeveling_shadow_ai_skipped");
+            return;
+        }
+        skippedTicks = 0;
+
+        ProfilerFiller profiler = mob.level().getProfiler();
+        profiler.push("sololeveling_shadow_ai");
+        profiler.push(profilerName);
+        delegate.tick();
+        profiler.pop();
+        profiler.pop();
+    }
+}
@@ -0,0 +1,76 @@
+package net.xelpha.sololevelingreforged.entity.ai;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
+
+/**
+ * AI level of detail for one shadow soldier
+ * Picks how often the soldier's gated goals (see LodGatedGoal) run, from the distance to its owner and to the
+ * nearest player: full rate up close, then every 2nd, 4th or 10th goal selector call. Mob only runs start
+ * checks and ordinary goal ticks every other game tick, so that is every 4, 8 or 20 game ticks (2 at full
+ * rate); goals that tick every game tick run every 2, 4 or 10. A soldier with a target, or one that was just
+ * hurt, always runs at full rate
+ */
+public class ShadowAiLod {
+
+    private static final int RECOMPUTE_INTERVAL = 20; // Ticks between distance checks
+    private static final int WAKE_TICKS = 100; // Full rate after taking damage
+
+    // Squared distance thresholds and the selector-call interval beyond each one
+    private static final double FULL_RATE_DISTANCE_SQR = 16.0D * 16.0D;
+    private static final double HALF_RATE_DISTANCE_SQR = 32.0D * 32.0D;
+    private static final double QUARTER_RATE_DISTANCE_SQR = 64.0D * 64.0D;
+
+    private final ShadowSoldierEntity shadowSoldier;
+    private int interval = 1;
+    private long nextRecompute = 0;
+    private long awakeUntil = 0;
+
+    public ShadowAiLod(ShadowSoldierEntity shadowSoldier) {
+        this.shadowSoldier = shadowSoldier;
+    }
+
+    /**
+     * Goal selector calls per run of the soldier's gated goals (1 = every call)
+     */
+    public int getInterval() {
+        long now = shadowSoldier.level().getGameTime();
+        if (shadowSoldier.getTarget() != null || now < awakeUntil) {
+            return 1;
+        }
+
+        if (now >= nextRecompute) {
+            nextRecompute = now + RECOMPUTE_INTERVAL;
+            interval = computeInterval();
+        }
+        return interval;
+    }
+
+    /**
+     * Snap back to full rate - called when the soldier takes damage
+     */
+    public void wake() {
+        awakeUntil = shadowSoldier.level().getGameTime() + WAKE_TICKS;
+        nextRecompute = 0;
+    }
+
+    private int computeInterval() {
+        double distanceSqr = Double.MAX_VALUE;
+
+        ServerPlayer owner = shadowSoldier.getOwner();
+        if (owner != null && owner.level() == shadowSoldier.level()) {
+            distanceSqr = shadowSoldier.distanceToSqr(owner);
+        }
+
+        Player nearest = shadowSoldier.level().getNearestPlayer(shadowSoldier, -1.0D);
+        if (nearest != null) {
+            distanceSqr = Math.min(distanceSqr, shadowSoldier.distanceToSqr(nearest));
+        }
+
+        if (distanceSqr < FULL_RATE_DISTANCE_SQR) return 1;
+        if (distanceSqr < HALF_RATE_DISTANCE_SQR) return 2;
+        if (distanceSqr < QUARTER_RATE_DISTANCE_SQR) return 4;
+        return 10;
+    }
+}
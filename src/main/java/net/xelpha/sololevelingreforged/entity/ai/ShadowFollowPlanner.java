@@ -0,0 +1,174 @@
+package net.xelpha.sololevelingreforged.entity.ai;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.xelpha.sololevelingreforged.entity.ShadowArmyRegistry;
+import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared follow path for a player's shadow army
+ * Once per interval the army runs a single A* search toward the owner, starting from the soldier nearest the
+ * army's centroid; every soldier within reach of that path joins it at its nearest node and walks it to their
+ * own slot around the owner. Soldiers too far from the path (or stuck, see ShadowSoldierFollowGoal) path
+ * individually without replacing it. Server thread only
+ */
+public final class ShadowFollowPlanner {
+
+    private static final int RECALC_INTERVAL = 10; // Ticks a shared path is reused
+    private static final double OWNER_MOVED_SQR = 2.0D * 2.0D; // Re-path sooner if the owner moved this far
+    private static final double JOIN_DISTANCE_SQR = 4.0D * 4.0D; // How close a soldier must be to a path node
+    private static final int SLOT_COUNT = 8; // Positions in the ring around the owner
+    private static final double SLOT_RADIUS = 2.5D;
+
+    private static final Map<ServerLevel, Map<UUID, SharedPath>> PATHS = new IdentityHashMap<>();
+
+    private ShadowFollowPlanner() {}
+
+    /**
+     * Send a soldier toward its owner along the army's shared path
+     * @return false if the soldier couldn't use a shared path and should path on its own
+     */
+    public static boolean moveToOwner(ShadowSoldierEntity soldier, Player owner, double speedModifier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return false;
+
+        Map<UUID, SharedPath> paths = PATHS.computeIfAbsent(level, l -> new HashMap<>());
+        SharedPath shared = paths.get(ownerId);
+        long now = level.getGameTime();
+        BlockPos ownerPos = owner.blockPosition();
+
+        if (shared == null || now - shared.computedAt >= RECALC_INTERVAL || shared.ownerPos.distSqr(ownerPos) > OWNER_MOVED_SQR) {
+            // A failed search is kept too, so the rest of the army doesn't repeat it this interval
+            shared = new SharedPath(now, ownerPos, createArmyPath(level, ownerId, soldier, owner));
+            paths.put(ownerId, shared);
+        }
+        if (shared.path == null) return false;
+
+        int joinIndex = findJoinNode(shared.path, soldier);
+        if (joinIndex < 0) return false;
+
+        Path path = buildFollowPath(level, shared.path, joinIndex, getSlotTarget(soldier, ownerPos));
+        return soldier.getNavigation().moveTo(path, speedModifier);
+    }
+
+    /**
+     * Drop the shared path once the owner has no soldiers left in the level
+     */
+    public static void onSoldierLeft(ShadowSoldierEntity soldier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return;
+
+        Map<UUID, SharedPath> paths = PATHS.get(level);
+        if (paths != null && ShadowArmyRegistry.getArmy(level, ownerId).isEmpty()) {
+            paths.remove(ownerId);
+        }
+    }
+
+    public static void clearLevel(ServerLevel level) {
+        PATHS.remove(level);
+    }
+
+    public static void clear() {
+        PATHS.clear();
+    }
+
+    /**
+     * Search from the soldier nearest the army's centroid, so the path passes as close as possible to everyone
+     */
+    @Nullable
+    private static Path createArmyPath(ServerLevel level, UUID ownerId, ShadowSoldierEntity requester, Player owner) {
+        Collection<ShadowSoldierEntity> army = ShadowArmyRegistry.getArmy(level, ownerId);
+        double x = 0, y = 0, z = 0;
+        int count = 0;
+        for (ShadowSoldierEntity soldier : army) {
+            if (soldier.isAlive()) {
+                x += soldier.getX();
+                y += soldier.getY();
+                z += soldier.getZ();
+                count++;
+            }
+        }
+
+        ShadowSoldierEntity source = requester;
+        if (count > 0) {
+            double bestDistance = Double.MAX_VALUE;
+            for (ShadowSoldierEntity soldier : army) {
+                double distance = soldier.distanceToSqr(x / count, y / count, z / count);
+                if (soldier.isAlive() && distance < bestDistance) {
+                    bestDistance = distance;
+                    source = soldier;
+                }
+            }
+        }
+        return source.getNavigation().createPath(owner, 0);
+    }
+
+    /**
+     * @return The index of the path node nearest to the soldier, or -1 if none is close enough to join
+     */
+    private static int findJoinNode(Path path, ShadowSoldierEntity soldier) {
+        int best = -1;
+        double bestDistance = JOIN_DISTANCE_SQR;
+        for (int i = 0; i < path.getNodeCount(); i++) {
+            Node node = path.getNode(i);
+            double distance = soldier.distanceToSqr(node.x + 0.5D, node.y, node.z + 0.5D);
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The soldier's place in a ring around the owner, so the army doesn't pile onto one block
+     */
+    private static BlockPos getSlotTarget(ShadowSoldierEntity soldier, BlockPos ownerPos) {
+        int slot = Math.floorMod(soldier.getUUID().hashCode(), SLOT_COUNT);
+        float angle = (float) (slot * Math.PI * 2.0D / SLOT_COUNT);
+        return ownerPos.offset(Mth.floor(Mth.cos(angle) * SLOT_RADIUS + 0.5D), 0, Mth.floor(Mth.sin(angle) * SLOT_RADIUS + 0.5D));
+    }
+
+    /**
+     * Copy the shared path from the join node on, ending at the soldier's slot when it can stand there
+     * Nodes are cloned with their type and cost so door and corner handling see the real terrain
+     */
+    private static Path buildFollowPath(ServerLevel level, Path shared, int joinIndex, BlockPos slot) {
+        List<Node> nodes = new ArrayList<>(shared.getNodeCount() - joinIndex + 1);
+        for (int i = joinIndex; i < shared.getNodeCount(); i++) {
+            Node node = shared.getNode(i);
+            nodes.add(node.cloneAndMove(node.x, node.y, node.z));
+        }
+
+        BlockPos target = shared.getTarget();
+        Node end = shared.getEndNode();
+        if (end != null && shared.canReach() && isStandable(level, slot)) {
+            nodes.add(end.cloneAndMove(slot.getX(), slot.getY(), slot.getZ()));
+            target = slot;
+        }
+        return new Path(nodes, target, shared.canReach());
+    }
+
+    private static boolean isStandable(ServerLevel level, BlockPos pos) {
+        BlockPos below = pos.below();
+        return level.getBlockState(pos).getCollisionShape(level, pos).isEmpty()
+            && level.getBlockState(pos.above()).getCollisionShape(level, pos.above()).isEmpty()
+            && level.getBlockState(below).isFaceSturdy(level, below, Direction.UP);
+    }
+
+    private record SharedPath(long computedAt, BlockPos ownerPos, @Nullable Path path) {}
+}
@@ -9,6 +9,8 @@ import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
  */
 public class ShadowSoldierFollowGoal extends Goal {
 
+    private static final int SOLO_PATH_TICKS = 40;
+
     private final ShadowSoldierEntity shadowSoldier;
     private final double speedModifier;
     private final float followDistance;
@@ -16,6 +18,7 @@ public class ShadowSoldierFollowGoal extends Goal {
 
     private Player owner;
     private int timeToRecalcPath;
+    private long soloPathUntil; // Game time until which this soldier paths on its own after getting stuck
 
     public ShadowSoldierFollowGoal(ShadowSoldierEntity shadowSoldier) {
         this(shadowSoldier, 1.0D, 8.0F, 2.0F);
@@ -44,7 +47,7 @@ public class ShadowSoldierFollowGoal extends Goal {
     @Override
     public void start() {
         this.timeToRecalcPath = 0;
-        shadowSoldier.getNavigation().moveTo(owner, speedModifier);
+        moveToOwner();
     }
 
     @Override
@@ -61,10 +64,23 @@ public class ShadowSoldierFollowGoal extends Goal {
             this.timeToRecalcPath = 10; // Recalculate path every 10 ticks
 
             if (shadowSoldier.distanceTo(owner) > followDistance) {
-                shadowSoldier.getNavigation().moveTo(owner, speedModifier);
+                moveToOwner();
             } else {
                 shadowSoldier.getNavigation().stop();
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Take the army's shared path, or path alone while blocked or too far from it
+     */
+    private void moveToOwner() {
+        long gameTime = shadowSoldier.level().getGameTime();
+        if (shadowSoldier.getNavigation().isStuck()) {
+            soloPathUntil = gameTime + SOLO_PATH_TICKS;
+        }
+
+        if (gameTime >= soloPathUntil && ShadowFollowPlanner.moveToOwner(shadowSoldier, owner, speedModifier)) return;
+        shadowSoldier.getNavigation().moveTo(owner, speedModifier);
+    }
+}
@@ -0,0 +1,203 @@
+package net.xelpha.sololevelingreforged.entity.ai;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.phys.AABB;
+import net.xelpha.sololevelingreforged.entity.ShadowArmyRegistry;
+import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Squad brain for a player's shadow army
+ * Instead of every soldier scanning and sorting nearby entities, the squad does one query around the army's
+ * centroid per evaluation period, scores each candidate once, and spreads soldiers across the best targets.
+ * Soldiers just read their assignment (see ShadowSquadTargetGoal). Server thread only
+ */
+public final class ShadowSquadCoordinator {
+
+    private static final int EVALUATION_INTERVAL = 10; // Ticks between target evaluations
+    private static final double TARGET_RANGE = 24.0D; // Reach beyond the army's spread
+    private static final double MAX_SCAN_RADIUS = 64.0D;
+    private static final int MAX_TARGETS = 16;
+
+    // Score bonuses on top of closeness to the army
+    private static final double OWNER_THREAT_BONUS = 100.0D;
+    private static final double SQUAD_THREAT_BONUS = 50.0D;
+
+    private static final Map<ServerLevel, Map<UUID, Squad>> SQUADS = new IdentityHashMap<>();
+
+    private ShadowSquadCoordinator() {}
+
+    /**
+     * The target this soldier's squad assigned it, re-evaluating the squad if its assignments are stale
+     */
+    public static LivingEntity getAssignedTarget(ShadowSoldierEntity soldier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return null;
+
+        Squad squad = SQUADS.computeIfAbsent(level, l -> new HashMap<>()).computeIfAbsent(ownerId, id -> new Squad());
+        long now = level.getGameTime();
+        if (now - squad.lastEvaluation >= EVALUATION_INTERVAL) {
+            squad.lastEvaluation = now;
+            evaluate(level, ownerId, squad);
+        }
+        return squad.assignments.get(soldier);
+    }
+
+    /**
+     * Forget a soldier that left its level, and its squad once the army there is gone
+     */
+    public static void onSoldierLeft(ShadowSoldierEntity soldier) {
+        UUID ownerId = soldier.getOwnerUUID();
+        if (ownerId == null || !(soldier.level() instanceof ServerLevel level)) return;
+
+        Map<UUID, Squad> squads = SQUADS.get(level);
+        Squad squad = squads != null ? squads.get(ownerId) : null;
+        if (squad == null) return;
+
+        squad.assignments.remove(soldier);
+        if (ShadowArmyRegistry.getArmy(level, ownerId).isEmpty()) {
+            squads.remove(ownerId);
+        }
+    }
+
+    public static void clearLevel(ServerLevel level) {
+        SQUADS.remove(level);
+    }
+
+    public static void clear() {
+        SQUADS.clear();
+    }
+
+    private static void evaluate(ServerLevel level, UUID ownerId, Squad squad) {
+        Collection<ShadowSoldierEntity> army = ShadowArmyRegistry.getArmy(level, ownerId);
+
+        // Centroid and spread of the living soldiers, plus whoever is fighting them
+        List<ShadowSoldierEntity> soldiers = new ArrayList<>(army.size());
+        Set<LivingEntity> squadAttackers = new HashSet<>();
+        double cx = 0, cy = 0, cz = 0;
+        for (ShadowSoldierEntity soldier : army) {
+            if (!soldier.isAlive()) continue;
+            soldiers.add(soldier);
+            cx += soldier.getX();
+            cy += soldier.getY();
+            cz += soldier.getZ();
+            if (soldier.getLastHurtByMob() != null) {
+                squadAttackers.add(soldier.getLastHurtByMob());
+            }
+        }
+
+        Map<ShadowSoldierEntity, LivingEntity> previous = squad.assignments;
+        squad.assignments = new HashMap<>();
+        if (soldiers.isEmpty()) return;
+
+        cx /= soldiers.size();
+        cy /= soldiers.size();
+        cz /= soldiers.size();
+
+        double spread = 0;
+        for (ShadowSoldierEntity soldier : soldiers) {
+            spread = Math.max(spread, Math.sqrt(soldier.distanceToSqr(cx, cy, cz)));
+        }
+        double radius = Math.min(MAX_SCAN_RADIUS, spread + TARGET_RANGE);
+
+        ServerPlayer owner = soldiers.get(0).getOwner();
+        LivingEntity ownerAttacker = owner != null ? owner.getLastHurtByMob() : null;
+
+        // One spatial query for the whole squad, each candidate scored once
+        List<ScoredTarget> candidates = new ArrayList<>();
+        AABB area = new AABB(cx, cy, cz, cx, cy, cz).inflate(radius);
+        for (LivingEntity entity : level.getEntitiesOfClass(LivingEntity.class, area,
+                candidate -> candidate.isAlive() && candidate != owner && candidate.canBeSeenAsEnemy()
+                    && !(candidate instanceof ShadowSoldierEntity other && ownerId.equals(other.getOwnerUUID())))) {
+
+            boolean threatensOwner = entity == ownerAttacker
+                || (owner != null && entity instanceof Mob mob && mob.getTarget() == owner);
+            boolean threatensSquad = squadAttackers.contains(entity)
+                || (entity instanceof Mob mob && mob.getTarget() instanceof ShadowSoldierEntity target
+                    && ownerId.equals(target.getOwnerUUID()));
+
+            // Soldiers go after monsters, and anything that attacks them or their owner
+            if (!threatensOwner && !threatensSquad && !(entity instanceof Monster)) continue;
+
+            double score = -Math.sqrt(entity.distanceToSqr(cx, cy, cz));
+            if (threatensOwner) score += OWNER_THREAT_BONUS;
+            if (threatensSquad) score += SQUAD_THREAT_BONUS;
+            candidates.add(new ScoredTarget(entity, score));
+        }
+        if (candidates.isEmpty()) return;
+
+        candidates.sort(Comparator.comparingDouble(ScoredTarget::score).reversed());
+        if (candidates.size() > MAX_TARGETS) {
+            candidates = candidates.subList(0, MAX_TARGETS);
+        }
+
+        // Spread the squad: each target takes at most its share of soldiers
+        int capacity = (soldiers.size() + candidates.size() - 1) / candidates.size();
+        Map<LivingEntity, Integer> assigned = new IdentityHashMap<>();
+        for (ScoredTarget candidate : candidates) {
+            assigned.put(candidate.entity(), 0);
+        }
+
+        // Soldiers keep their current target while it's still a candidate, so they don't thrash.
+        // Targets are only handed to soldiers that can hold them - TargetGoal drops anything past follow range
+        List<ShadowSoldierEntity> unassigned = new ArrayList<>();
+        for (ShadowSoldierEntity soldier : soldiers) {
+            LivingEntity current = previous.get(soldier);
+            Integer count = current != null ? assigned.get(current) : null;
+            if (count != null && count < capacity && isInFollowRange(soldier, current)) {
+                squad.assignments.put(soldier, current);
+                assigned.put(current, count + 1);
+            } else {
+                unassigned.add(soldier);
+            }
+        }
+
+        // Everyone else takes the highest-scored target in range that still has room
+        for (ShadowSoldierEntity soldier : unassigned) {
+            for (ScoredTarget candidate : candidates) {
+                LivingEntity target = candidate.entity();
+                if (assigned.get(target) < capacity && isInFollowRange(soldier, target)) {
+                    squad.assignments.put(soldier, target);
+                    assigned.merge(target, 1, Integer::sum);
+                    break;
+                }
+            }
+        }
+
+        if (owner != null && ownerAttacker != null && assigned.containsKey(ownerAttacker)
+                && squad.announcedThreat != ownerAttacker) {
+            squad.announcedThreat = ownerAttacker;
+            owner.sendSystemMessage(Component.literal("Shadow soldiers defending against " +
+                ownerAttacker.getType().getDescription().getString() + "!"));
+        }
+    }
+
+    private static boolean isInFollowRange(ShadowSoldierEntity soldier, LivingEntity target) {
+        double range = soldier.getAttributeValue(Attributes.FOLLOW_RANGE);
+        return soldier.distanceToSqr(target) <= range * range;
+    }
+
+    private record ScoredTarget(LivingEntity entity, double score) {}
+
+    private static final class Squad {
+        private long lastEvaluation = Long.MIN_VALUE / 2;
+        private Map<ShadowSoldierEntity, LivingEntity> assignments = new HashMap<>();
+        private LivingEntity announcedThreat;
+    }
+}
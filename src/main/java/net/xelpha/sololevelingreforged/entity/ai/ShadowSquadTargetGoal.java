@@ -0,0 +1,45 @@
+package net.xelpha.sololevelingreforged.entity.ai;
+
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.goal.target.TargetGoal;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
+
+/**
+ * Target goal for Shadow Soldiers - takes the target handed out by the squad's ShadowSquadCoordinator
+ * instead of scanning for one, so targeting cost grows with enemies rather than soldiers x enemies
+ */
+public class ShadowSquadTargetGoal extends TargetGoal {
+
+    private final ShadowSoldierEntity shadowSoldier;
+    private final TargetingConditions targetingConditions;
+    private LivingEntity assignedTarget;
+
+    public ShadowSquadTargetGoal(ShadowSoldierEntity shadowSoldier) {
+        super(shadowSoldier, false);
+        this.shadowSoldier = shadowSoldier;
+        // The squad already picked by distance and threat - no per-soldier line of sight raycasts
+        this.targetingConditions = TargetingConditions.forCombat().ignoreLineOfSight();
+    }
+
+    @Override
+    public boolean canUse() {
+        this.assignedTarget = ShadowSquadCoordinator.getAssignedTarget(shadowSoldier);
+        return assignedTarget != null
+            && assignedTarget != shadowSoldier.getTarget()
+            && this.canAttack(assignedTarget, this.targetingConditions);
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        // Drop the target when the squad moves this soldier elsewhere
+        return super.canContinueToUse()
+            && ShadowSquadCoordinator.getAssignedTarget(shadowSoldier) == shadowSoldier.getTarget();
+    }
+
+    @Override
+    public void start() {
+        shadowSoldier.setTarget(this.assignedTarget);
+        super.start();
+    }
+}
@@ -0,0 +1,51 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.network.SnapshotTransfer;
+
+/**
+ * Coalesces PlayerCapability syncs - mutators only mark field groups dirty,
+ * and every dirty player gets a single delta packet at the end of the server tick
+ * Also drives SnapshotTransfer, which streams full snapshots in chunks
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class CapabilitySyncEvents {
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) return;
+
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                if (cap.isDirty()) {
+                    cap.syncToClient();
+                }
+            });
+        }
+
+        // Stream pending full snapshots under the per-tick byte budget
+        SnapshotTransfer.tick(server);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        SnapshotTransfer.clearPlayer(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SnapshotTransfer.clear();
+    }
+}
@@ -1,11 +1,14 @@
 package net.xelpha.sololevelingreforged.events;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.InputEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
@@ -13,8 +16,11 @@ import net.xelpha.sololevelingreforged.core.KeyBindings;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
 import net.xelpha.sololevelingreforged.core.SkillKeyBindings;
 import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
+import net.xelpha.sololevelingreforged.network.NetworkIdTable;
 import net.xelpha.sololevelingreforged.network.StoreItemPacket;
+import net.xelpha.sololevelingreforged.network.SyncCapabilityPacket;
 import net.xelpha.sololevelingreforged.network.UseSkillPacket;
+import net.xelpha.sololevelingreforged.ui.InventoryPageCache;
 import net.xelpha.sololevelingreforged.ui.SystemConsoleScreen;
 
 /**
@@ -25,6 +31,7 @@ public class ClientEvents {
 
     private static boolean systemKeyWasPressed = false;
     private static boolean storeKeyWasPressed = false;
+    private static int castSequence = 0;
 
     @SubscribeEvent
     public static void onKeyInput(InputEvent.Key event) {
@@ -43,6 +50,23 @@ public class ClientEvents {
         handleSkillKeys(minecraft, player);
     }
     
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player != null) {
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::expirePredictedCasts);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        // A snapshot cut off by the disconnect, or cached inventory pages, must not leak into the next session
+        SyncCapabilityPacket.reset();
+        InventoryPageCache.get().reset();
+    }
+
     private static void handleSystemKey(Minecraft minecraft, LocalPlayer player) {
         boolean keyIsDown = KeyBindings.OPEN_STATS.isDown();
         
@@ -66,12 +90,16 @@ public class ClientEvents {
         boolean keyIsDown = KeyBindings.STORE_ITEM.isDown();
         
         if (keyIsDown && !storeKeyWasPressed) {
-            // Key was just pressed - store held item
+            // Key was just pressed - store held item (Shift: whole inventory, Ctrl: items already stored)
             if (minecraft.screen == null) {
                 // Only when no screen is open (in-game)
                 ItemStack heldItem = player.getMainHandItem();
                 
-                if (!heldItem.isEmpty()) {
+                if (Screen.hasShiftDown()) {
+                    ModNetworkRegistry.CHANNEL.sendToServer(new StoreItemPacket(StoreItemPacket.Mode.ALL));
+                } else if (Screen.hasControlDown()) {
+                    ModNetworkRegistry.CHANNEL.sendToServer(new StoreItemPacket(StoreItemPacket.Mode.MATCHING));
+                } else if (!heldItem.isEmpty()) {
                     // Send packet to store the item
                     ModNetworkRegistry.CHANNEL.sendToServer(new StoreItemPacket());
                     
@@ -105,9 +133,15 @@ public class ClientEvents {
         for (net.minecraft.client.KeyMapping keyMapping : skillKeys) {
             if (keyMapping.consumeClick()) {
                 String skillId = SkillKeyBindings.getSkillForKey(keyMapping);
-                if (skillId != null) {
+                int skillIndex = skillId != null ? NetworkIdTable.getSkillId(Sololevelingreforged.loc(skillId)) : -1;
+                if (skillIndex >= 0) {
+                    // Predict mana and cooldown locally, the server confirms or rejects this cast number
+                    int sequence = ++castSequence;
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap ->
+                        cap.predictSkillCast(sequence, Sololevelingreforged.loc(skillId)));
+
                     // Send skill usage packet to server
-                    ModNetworkRegistry.CHANNEL.sendToServer(new UseSkillPacket(skillId));
+                    ModNetworkRegistry.CHANNEL.sendToServer(new UseSkillPacket(skillIndex, sequence));
 
                     // Show activation feedback (actual result comes from server)
                     player.displayClientMessage(
@@ -1,12 +1,23 @@
 package net.xelpha.sololevelingreforged.events;
 
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.server.ServerLifecycleHooks;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.core.KillExperiencePipeline;
+import net.xelpha.sololevelingreforged.core.MobClassification;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
 
 /**
@@ -15,29 +26,72 @@ import net.xelpha.sololevelingreforged.core.PlayerCapability;
 @Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
 public class ExperienceEvents {
 
+    private static final int BLOCK_XP_FLUSH_INTERVAL = 20; // Ticks
+
     /**
      * Grant experience when player kills a mob
+     * The only death handler that grants XP - everything else is a stage in KillExperiencePipeline
      */
     @SubscribeEvent
     public static void onLivingDeath(LivingDeathEvent event) {
-        if (!(event.getSource().getEntity() instanceof Player player)) {
+        if (!(event.getSource().getEntity() instanceof ServerPlayer player)) {
             return;
         }
 
         LivingEntity target = event.getEntity();
+        ProfilerFiller profiler = player.level().getProfiler();
+        profiler.push("sololeveling_kill_xp");
+        player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap ->
+            KillExperiencePipeline.grantKillExperience(player, cap, target));
+        profiler.pop();
+    }
 
-        // Calculate experience based on mob type
-        int expGain = calculateMobExperience(target);
+    /**
+     * Build the mob classification table once tags are bound
+     */
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        MobClassification.rebuild(event.getServer().getResourceManager());
+    }
 
-        // Grant experience to player
-        player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-            cap.addExperience(expGain);
-        });
+    /**
+     * Tags and override files may have changed on /reload
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD && server != null && server.isReady()) {
+            MobClassification.rebuild(server.getResourceManager());
+        }
+    }
+
+    /**
+     * Flush queued block-break XP every few ticks - one sync and one message per flush
+     * Runs before CapabilitySyncEvents so the flush goes out in the same tick
+     */
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.getServer().getTickCount() % BLOCK_XP_FLUSH_INTERVAL != 0) {
+            return;
+        }
+
+        for (ServerPlayer player : event.getServer().getPlayerList().getPlayers()) {
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::flushBlockExperience);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        KillExperiencePipeline.clearPlayer(event.getEntity().getUUID());
+        // Fired before the player is saved, so nothing queued is lost
+        event.getEntity().getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::flushBlockExperience);
     }
 
     /**
      * Grant minimal experience when player breaks blocks
      * Mining should not be the primary way to level up
+     * XP is queued on the capability and granted on the next flush, so vein miners and
+     * quarries breaking hundreds of blocks a tick don't trigger hundreds of level checks
      */
     @SubscribeEvent
     public static void onBlockBreak(BlockEvent.BreakEvent event) {
@@ -50,58 +104,7 @@ public class ExperienceEvents {
 
         // Only give experience for harder blocks (stone level and above)
         if (hardness >= 1.5f) {
-            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                cap.addExperience(expGain);
-            });
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> cap.addBlockExperience(expGain));
         }
     }
-
-    /**
-     * Calculate experience gained from killing mobs based on their max health
-     * This makes the system modular and scales with mob health for compatibility with other mods
-     *
-     * Formula: XP = maxHealth * 0.8 * bossMultiplier * healthScaling
-     * - Base: 0.8 XP per heart
-     * - Boss multiplier: 2x for mini-bosses, 3x for major bosses
-     * - Health scaling: Additional multiplier for very high HP mobs
-     * - Capped at 500 XP maximum per mob
-     */
-    private static int calculateMobExperience(LivingEntity entity) {
-        // Get the mob's maximum health
-        float maxHealth = entity.getMaxHealth();
-
-        // Base experience scaling with health
-        // Formula: baseXP = maxHealth * multiplier, with minimum and maximum caps
-        float baseXP = maxHealth * 0.8f; // 0.8 XP per heart
-
-        // Minimum experience (even 1HP mobs give some XP)
-        baseXP = Math.max(baseXP, 3.0f);
-
-        // Boss multiplier for special mobs
-        String mobType = entity.getType().getDescriptionId().toLowerCase();
-        float bossMultiplier = 1.0f;
-
-        // Boss mobs get bonus multiplier
-        if (mobType.contains("wither") || mobType.contains("dragon") || mobType.contains("warden")) {
-            bossMultiplier = 3.0f; // 3x multiplier for major bosses
-        } else if (mobType.contains("boss") || mobType.contains("iron_golem") || mobType.contains("elder_guardian")) {
-            bossMultiplier = 2.0f; // 2x multiplier for mini-bosses
-        } else if (mobType.contains("ravager") || mobType.contains("piglin_brute") || mobType.contains("evoker")) {
-            bossMultiplier = 1.5f; // 1.5x multiplier for tough mobs
-        }
-
-        // Apply boss multiplier
-        baseXP *= bossMultiplier;
-
-        // Additional scaling for very high health mobs (diminishing returns)
-        if (maxHealth > 100) {
-            float extraScaling = Math.min(maxHealth / 100.0f, 3.0f); // Cap at 3x for 300+ HP
-            baseXP *= (1.0f + extraScaling * 0.5f);
-        }
-
-        // Cap maximum experience per mob to prevent exploits
-        baseXP = Math.min(baseXP, 500.0f);
-
-        return Math.round(baseXP);
-    }
-}
\ No newline at end of file
+}
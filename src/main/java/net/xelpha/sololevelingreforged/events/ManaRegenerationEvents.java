@@ -0,0 +1,53 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.core.ManaRegenerationScheduler;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+
+/**
+ * Drives ManaRegenerationScheduler from the server tick
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class ManaRegenerationEvents {
+
+    /**
+     * Runs before CapabilitySyncEvents so regen changes go out in the same tick
+     */
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            ManaRegenerationScheduler.tick(event.getServer());
+        }
+    }
+
+    /**
+     * Players may log in below max mana
+     */
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                if (cap.getCurrentMana() < cap.getMaxMana()) {
+                    ManaRegenerationScheduler.activate(player);
+                }
+            });
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        ManaRegenerationScheduler.deactivate(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ManaRegenerationScheduler.clear();
+    }
+}
@@ -0,0 +1,35 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.network.NetworkStats;
+
+/**
+ * Samples NetworkStats once a second and drops the counters of players who leave
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class NetworkStatsEvents {
+
+    private static final int SAMPLE_INTERVAL = 20; // Ticks
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && event.getServer().getTickCount() % SAMPLE_INTERVAL == 0) {
+            NetworkStats.sample();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        NetworkStats.clearPlayer(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        NetworkStats.clear();
+    }
+}
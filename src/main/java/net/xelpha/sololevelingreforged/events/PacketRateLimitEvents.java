@@ -0,0 +1,25 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.network.PacketRateLimiter;
+
+/**
+ * Drops PacketRateLimiter state for players who leave
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class PacketRateLimitEvents {
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        PacketRateLimiter.clearPlayer(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        PacketRateLimiter.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.entity.ShadowArmyRegistry;
+import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowFollowPlanner;
+import net.xelpha.sololevelingreforged.entity.ai.ShadowSquadCoordinator;
+
+/**
+ * Keeps ShadowArmyRegistry in step with the soldiers actually in each level,
+ * and the soldiers' cached owner in step with the owner's connection
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class ShadowArmyEvents {
+
+    /**
+     * Lowest priority so soldiers whose join another mod cancels are never indexed
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof ShadowSoldierEntity soldier && !event.getLevel().isClientSide()) {
+            soldier.onJoinedLevel();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getEntity() instanceof ShadowSoldierEntity soldier && !event.getLevel().isClientSide()) {
+            soldier.onLeftLevel();
+        }
+    }
+
+    // Soldiers cache their resolved owner - drop it whenever the owner's ServerPlayer may have changed
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        invalidateOwner(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        invalidateOwner(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        invalidateOwner(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        invalidateOwner(event.getEntity());
+    }
+
+    private static void invalidateOwner(Player player) {
+        if (!player.level().isClientSide()) {
+            ShadowArmyRegistry.forEachSoldier(player.getUUID(), ShadowSoldierEntity::invalidateOwnerCache);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            ShadowArmyRegistry.clearLevel(level);
+            ShadowSquadCoordinator.clearLevel(level);
+            ShadowFollowPlanner.clearLevel(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ShadowArmyRegistry.clear();
+        ShadowSquadCoordinator.clear();
+        ShadowFollowPlanner.clear();
+    }
+}
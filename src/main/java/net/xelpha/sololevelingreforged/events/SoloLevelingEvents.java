@@ -1,18 +1,16 @@
 package net.xelpha.sololevelingreforged.events;
 
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
 import net.xelpha.sololevelingreforged.core.CapabilityStorage;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
 import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
-import net.xelpha.sololevelingreforged.network.SyncCapabilityPacket;
+import net.xelpha.sololevelingreforged.network.SyncNetworkIdsPacket;
 
 /**
  * Main event handler for Solo Leveling System
@@ -34,6 +32,8 @@ public class SoloLevelingEvents {
                 Sololevelingreforged.loc("player_system_capability"),
                 storage
             );
+            // Hand out no stale references once the player entity is replaced
+            event.addListener(storage::invalidate);
         }
     }
 
@@ -45,14 +45,15 @@ public class SoloLevelingEvents {
         Player original = event.getOriginal();
         Player player = event.getEntity();
 
-        // Copy capability data
+        // The original's capabilities are already invalidated when it died
+        original.reviveCaps();
+
+        // Move capability data straight across - no NBT round trip
         original.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(oldCap -> {
-            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(newCap -> {
-                // Copy all data from old capability to new one
-                newCap.deserializeNBT(oldCap.serializeNBT());
-                newCap.setPlayer(player);
-            });
+            player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(newCap -> newCap.transferFrom(oldCap, player));
         });
+
+        original.invalidateCaps();
     }
 
     /**
@@ -61,14 +62,22 @@ public class SoloLevelingEvents {
     @SubscribeEvent
     public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
+            // Numeric skill/stat IDs first - cast and allocate packets depend on them
+            ModNetworkRegistry.sendToPlayer(serverPlayer, new SyncNetworkIdsPacket());
+
             // Sync capability data to client
-            serverPlayer.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> serverPlayer),
-                    new SyncCapabilityPacket(cap.serializeNBT()));
-            });
+            serverPlayer.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::sendFullSnapshot);
         }
     }
 
+    /**
+     * The client recreates its player entity on dimension change, so it needs a fresh snapshot
+     */
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        event.getEntity().getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::sendFullSnapshot);
+    }
+
     /**
      * Handle player death (potential penalty zone logic)
      */
@@ -76,6 +85,9 @@ public class SoloLevelingEvents {
     public static void onPlayerDeath(PlayerEvent.PlayerRespawnEvent event) {
         Player player = event.getEntity();
         player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+            // The respawned client player starts with an empty capability
+            cap.sendFullSnapshot();
+
             // TODO: Implement penalty zone teleportation logic
             // This will be part of the daily quest system
         });
@@ -0,0 +1,46 @@
+package net.xelpha.sololevelingreforged.events;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.core.SystemDataStorage;
+
+/**
+ * Hooks SystemDataStorage into the vanilla player save/load cycle
+ */
+@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
+public class SystemDataEvents {
+
+    /**
+     * Fired after the player's NBT is read, so file data replaces anything left in older player saves
+     */
+    @SubscribeEvent
+    public static void onPlayerLoad(PlayerEvent.LoadFromFile event) {
+        MinecraftServer server = event.getEntity().getServer();
+        if (server != null) {
+            event.getEntity().getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap ->
+                SystemDataStorage.load(server, event.getEntity().getUUID(), cap));
+        }
+    }
+
+    /**
+     * Fired for every player on autosave, logout and shutdown
+     */
+    @SubscribeEvent
+    public static void onPlayerSave(PlayerEvent.SaveToFile event) {
+        MinecraftServer server = event.getEntity().getServer();
+        if (server != null) {
+            event.getEntity().getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap ->
+                SystemDataStorage.save(server, event.getEntity().getUUID(), cap));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SystemDataStorage.flush();
+    }
+}
@@ -1,35 +1,65 @@
 package net.xelpha.sololevelingreforged.network;
 
-import net.minecraft.client.Minecraft;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.core.Stat;
 
 import java.util.function.Supplier;
 
 /**
  * Packet for allocating ability points to stats
+ * Carries a batch of increments, one entry per server stat ID (see NetworkIdTable), so a burst of
+ * clicks in the status tab becomes one request and one capability sync
  */
 public class AllocateStatPacket {
 
-    private final String statName;
+    private final int[] increments; // Points per stat, indexed by server stat ID
 
-    public AllocateStatPacket(String statName) {
-        this.statName = statName;
+    public AllocateStatPacket(int[] increments) {
+        this.increments = increments;
     }
 
     public AllocateStatPacket(FriendlyByteBuf buf) {
-        this.statName = buf.readUtf();
+        int count = buf.readVarInt();
+        if (count < 0 || count > Stat.values().length) {
+            throw new DecoderException("Invalid stat count " + count);
+        }
+        this.increments = new int[count];
+        for (int i = 0; i < count; i++) {
+            increments[i] = buf.readVarInt();
+        }
     }
 
     public void encode(FriendlyByteBuf buf) {
-        buf.writeUtf(statName);
+        buf.writeVarInt(increments.length);
+        for (int increment : increments) {
+            buf.writeVarInt(increment);
+        }
+    }
+
+    /**
+     * Network-thread checks: no negative or empty batches
+     */
+    private boolean isValid(Supplier<NetworkEvent.Context> context) {
+        long total = 0;
+        for (int increment : increments) {
+            if (increment < 0) {
+                return PacketRateLimiter.reject(context, "negative stat increment");
+            }
+            total += increment;
+        }
+        return total > 0 || PacketRateLimiter.reject(context, "empty stat allocation");
     }
 
     public void handle(Supplier<NetworkEvent.Context> context) {
+        if (!PacketRateLimiter.tryAcquire(context, PacketRateLimiter.Type.ALLOCATE_STAT) || !isValid(context)) {
+            return;
+        }
+
         context.get().enqueueWork(() -> {
             // Server-side processing
             if (context.get().getDirection().getReceptionSide().isServer()) {
@@ -38,13 +68,15 @@ public class AllocateStatPacket {
                     sender.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
                         // Verify player has available AP
                         if (cap.getAvailableAP() > 0) {
-                            // Attempt to allocate the stat point
-                            if (cap.allocateStatPoint(statName)) {
-                                // Success - sync back to client
-                                ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> sender),
-                                    new SyncCapabilityPacket(cap.serializeNBT()));
-                            } else {
-                                // Invalid stat name
+                            // Map wire IDs to stats, then apply the whole batch or nothing (synced back at the end of the tick)
+                            int[] byStat = new int[Stat.values().length];
+                            for (int id = 0; id < increments.length; id++) {
+                                Stat stat = Stat.byId(id);
+                                if (stat != null) {
+                                    byStat[stat.ordinal()] = increments[id];
+                                }
+                            }
+                            if (!cap.allocateStatPoints(byStat)) {
                                 sender.sendSystemMessage(Component.literal("Invalid stat allocation request."));
                             }
                         } else {
@@ -53,11 +85,8 @@ public class AllocateStatPacket {
                         }
                     });
                 }
-            } else {
-                // Client-side: refresh the UI if needed
-                // The capability sync packet will handle UI updates
             }
         });
         context.get().setPacketHandled(true);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.InventorySortMode;
+import net.xelpha.sololevelingreforged.core.SystemInventory;
+import net.xelpha.sololevelingreforged.ui.InventoryPageCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Packet carrying a window of the (sorted) System Inventory view to the client
+ * Each entry keeps its real slot index so withdraw requests target the right stack
+ * Counts travel separately as longs - the client only builds single-item stacks for rendering
+ */
+public class InventoryPagePacket {
+
+    private final int version;
+    private final int totalSize;
+    private final InventorySortMode sortMode;
+    private final boolean ascending;
+    private final int start;
+    private final int[] slots;
+    private final List<SystemInventory.Entry> entries; // Server side
+    private final List<ItemStack> stacks; // Client side
+    private final long[] counts; // Client side
+
+    public InventoryPagePacket(int version, int totalSize, InventorySortMode sortMode, boolean ascending,
+                               int start, int[] slots, List<SystemInventory.Entry> entries) {
+        this.version = version;
+        this.totalSize = totalSize;
+        this.sortMode = sortMode;
+        this.ascending = ascending;
+        this.start = start;
+        this.slots = slots;
+        this.entries = entries;
+        this.stacks = null;
+        this.counts = null;
+    }
+
+    public InventoryPagePacket(FriendlyByteBuf buf) {
+        this.version = buf.readVarInt();
+        this.totalSize = buf.readVarInt();
+        this.sortMode = InventorySortMode.byId(buf.readByte());
+        this.ascending = buf.readBoolean();
+        this.start = buf.readVarInt();
+        int count = buf.readVarInt();
+        this.slots = new int[count];
+        this.entries = null;
+        this.stacks = new ArrayList<>(count);
+        this.counts = new long[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = buf.readVarInt();
+            Item item = buf.readById(BuiltInRegistries.ITEM);
+            // Counts are written as varlongs - System Inventory stacks go far beyond 64
+            counts[i] = buf.readVarLong();
+            ItemStack stack = new ItemStack(item);
+            stack.setTag(buf.readNbt());
+            stacks.add(stack);
+        }
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(version);
+        buf.writeVarInt(totalSize);
+        buf.writeByte(sortMode.ordinal());
+        buf.writeBoolean(ascending);
+        buf.writeVarInt(start);
+        buf.writeVarInt(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            SystemInventory.Entry entry = entries.get(i);
+            buf.writeVarInt(slots[i]);
+            buf.writeId(BuiltInRegistries.ITEM, entry.getItem());
+            buf.writeVarLong(entry.getCount());
+            buf.writeNbt(entry.copyTag());
+        }
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isClient()) {
+                InventoryPageCache.get().acceptPage(version, totalSize, sortMode, ascending, start, slots, stacks, counts);
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
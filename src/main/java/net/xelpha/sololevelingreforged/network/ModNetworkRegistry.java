@@ -1,12 +1,24 @@
 package net.xelpha.sololevelingreforged.network;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
 
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * Network registry for handling packets between server and client
+ * Every packet is registered with its direction, so Forge drops packets that arrive the wrong way
+ * (e.g. a client pushing a capability snapshot)
  */
 public class ModNetworkRegistry {
 
@@ -22,48 +34,146 @@ public class ModNetworkRegistry {
 
     public static void registerPackets() {
         // Register sync capability packet
-        CHANNEL.registerMessage(
-            packetId++,
+        register(
             SyncCapabilityPacket.class,
             SyncCapabilityPacket::encode,
             SyncCapabilityPacket::new,
-            SyncCapabilityPacket::handle
+            SyncCapabilityPacket::handle,
+            NetworkDirection.PLAY_TO_CLIENT
         );
 
         // Register allocate stat packet
-        CHANNEL.registerMessage(
-            packetId++,
+        register(
             AllocateStatPacket.class,
             AllocateStatPacket::encode,
             AllocateStatPacket::new,
-            AllocateStatPacket::handle
+            AllocateStatPacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
         );
 
         // Register use skill packet
-        CHANNEL.registerMessage(
-            packetId++,
+        register(
             UseSkillPacket.class,
             UseSkillPacket::toBytes,
             UseSkillPacket::new,
-            UseSkillPacket::handle
+            UseSkillPacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
         );
 
         // Register store item packet
-        CHANNEL.registerMessage(
-            packetId++,
+        register(
             StoreItemPacket.class,
             StoreItemPacket::encode,
             StoreItemPacket::new,
-            StoreItemPacket::handle
+            StoreItemPacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
         );
         
         // Register withdraw item packet
-        CHANNEL.registerMessage(
-            packetId++,
+        register(
             WithdrawItemPacket.class,
             WithdrawItemPacket::encode,
             WithdrawItemPacket::new,
-            WithdrawItemPacket::handle
+            WithdrawItemPacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
+        );
+
+        // Register capability delta sync packet
+        register(
+            SyncCapabilityDeltaPacket.class,
+            SyncCapabilityDeltaPacket::encode,
+            SyncCapabilityDeltaPacket::new,
+            SyncCapabilityDeltaPacket::handle,
+            NetworkDirection.PLAY_TO_CLIENT
+        );
+
+        // Register capability resync request packet
+        register(
+            RequestCapabilitySyncPacket.class,
+            RequestCapabilitySyncPacket::encode,
+            RequestCapabilitySyncPacket::new,
+            RequestCapabilitySyncPacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
         );
+
+        // Register inventory page request packet
+        register(
+            RequestInventoryPagePacket.class,
+            RequestInventoryPagePacket::encode,
+            RequestInventoryPagePacket::new,
+            RequestInventoryPagePacket::handle,
+            NetworkDirection.PLAY_TO_SERVER
+        );
+
+        // Register inventory page packet
+        register(
+            InventoryPagePacket.class,
+            InventoryPagePacket::encode,
+            InventoryPagePacket::new,
+            InventoryPagePacket::handle,
+            NetworkDirection.PLAY_TO_CLIENT
+        );
+
+        // Register skill cast result packet
+        register(
+            SkillCastResultPacket.class,
+            SkillCastResultPacket::encode,
+            SkillCastResultPacket::new,
+            SkillCastResultPacket::handle,
+            NetworkDirection.PLAY_TO_CLIENT
+        );
+
+        // Register network ID handshake packet
+        register(
+            SyncNetworkIdsPacket.class,
+            SyncNetworkIdsPacket::encode,
+            SyncNetworkIdsPacket::new,
+            SyncNetworkIdsPacket::handle,
+            NetworkDirection.PLAY_TO_CLIENT
+        );
+    }
+
+    /**
+     * Register a packet with its direction, counting its traffic in NetworkStats
+     * The encoder and decoder note the encoded size; sendToPlayer and the handler attribute it to a player
+     */
+    private static <MSG> void register(Class<MSG> type,
+                                       BiConsumer<MSG, FriendlyByteBuf> encoder,
+                                       Function<FriendlyByteBuf, MSG> decoder,
+                                       BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler,
+                                       NetworkDirection direction) {
+        int statsId = NetworkStats.registerType(type.getSimpleName());
+
+        CHANNEL.registerMessage(
+            packetId++,
+            type,
+            (message, buf) -> {
+                int start = buf.writerIndex();
+                encoder.accept(message, buf);
+                NetworkStats.noteEncoded(statsId, buf.writerIndex() - start);
+            },
+            buf -> {
+                int start = buf.readerIndex();
+                MSG message = decoder.apply(buf);
+                NetworkStats.noteDecoded(buf.readerIndex() - start);
+                return message;
+            },
+            (message, context) -> {
+                ServerPlayer sender = context.get().getSender();
+                if (sender != null) {
+                    NetworkStats.recordInbound(sender, statsId);
+                }
+                handler.accept(message, context);
+            },
+            Optional.of(direction)
+        );
+    }
+
+    /**
+     * Send a packet to a single player
+     */
+    public static void sendToPlayer(ServerPlayer player, Object message) {
+        CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), message);
+        NetworkStats.recordOutbound(player);
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.resources.ResourceLocation;
+import net.xelpha.sololevelingreforged.core.Stat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side table of the numeric IDs the server uses for skills and stats
+ * Filled by {@link SyncNetworkIdsPacket} at login so cast and allocate packets carry a varint
+ * instead of a string, and the server resolves them with an array index
+ */
+public class NetworkIdTable {
+
+    private static final Map<ResourceLocation, Integer> SKILL_IDS = new HashMap<>();
+    private static final int[] STAT_IDS = new int[Stat.values().length];
+    private static int statCount = 0;
+
+    static {
+        Arrays.fill(STAT_IDS, -1);
+    }
+
+    /**
+     * Replace the table with the server's ID assignment
+     */
+    public static void load(List<ResourceLocation> skillIds, List<String> statKeys) {
+        SKILL_IDS.clear();
+        for (int i = 0; i < skillIds.size(); i++) {
+            SKILL_IDS.put(skillIds.get(i), i);
+        }
+
+        Arrays.fill(STAT_IDS, -1);
+        statCount = statKeys.size();
+        for (int i = 0; i < statKeys.size(); i++) {
+            Stat stat = Stat.byKey(statKeys.get(i));
+            if (stat != null) {
+                STAT_IDS[stat.ordinal()] = i;
+            }
+        }
+    }
+
+    /**
+     * @return The server's ID for a skill, or -1 if the server doesn't know it (or the table hasn't arrived)
+     */
+    public static int getSkillId(ResourceLocation skillId) {
+        return SKILL_IDS.getOrDefault(skillId, -1);
+    }
+
+    /**
+     * @return The server's ID for a stat, or -1 if unknown
+     */
+    public static int getStatId(Stat stat) {
+        return STAT_IDS[stat.ordinal()];
+    }
+
+    /**
+     * @return How many stats the server assigned IDs to
+     */
+    public static int getStatCount() {
+        return statCount;
+    }
+}
@@ -0,0 +1,203 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traffic accounting for ModNetworkRegistry.CHANNEL - messages and encoded bytes per packet type,
+ * inbound and outbound, for every player and in total
+ * Counting is a LongAdder increment on the network/encode path; once a second the server thread samples
+ * the running totals into a 5 minute history so /system netstats can show 1s, 1m and 5m rates
+ */
+public final class NetworkStats {
+
+    public static final int HISTORY_SECONDS = 300;
+
+    public enum Direction { INBOUND, OUTBOUND }
+
+    private static final List<String> TYPE_NAMES = new ArrayList<>();
+
+    private static volatile Counters total; // Created on first use, once every packet type is registered
+    private static final Map<UUID, Counters> PLAYERS = new ConcurrentHashMap<>();
+
+    // Size of the message the current thread just encoded or decoded, until it is attributed to a player
+    private static final ThreadLocal<int[]> PENDING = ThreadLocal.withInitial(() -> new int[] { -1, 0 });
+
+    private NetworkStats() {}
+
+    /**
+     * Assign a stats ID to a packet type - called while packets are registered, before any traffic
+     */
+    static int registerType(String name) {
+        TYPE_NAMES.add(name);
+        return TYPE_NAMES.size() - 1;
+    }
+
+    public static List<String> getTypeNames() {
+        return Collections.unmodifiableList(TYPE_NAMES);
+    }
+
+    static void noteEncoded(int type, int bytes) {
+        int[] pending = PENDING.get();
+        pending[0] = type;
+        pending[1] = bytes;
+    }
+
+    static void noteDecoded(int bytes) {
+        PENDING.get()[1] = bytes;
+    }
+
+    /**
+     * Count the message the current thread just encoded as sent to a player
+     */
+    static void recordOutbound(ServerPlayer player) {
+        int[] pending = PENDING.get();
+        if (pending[0] < 0) return;
+
+        record(player, Direction.OUTBOUND, pending[0], pending[1]);
+        pending[0] = -1;
+    }
+
+    /**
+     * Count the message the current thread just decoded as received from a player
+     */
+    static void recordInbound(ServerPlayer player, int type) {
+        int[] pending = PENDING.get();
+        record(player, Direction.INBOUND, type, pending[1]);
+        pending[1] = 0;
+    }
+
+    private static void record(ServerPlayer player, Direction direction, int type, int bytes) {
+        getTotal().add(direction, type, bytes);
+        PLAYERS.computeIfAbsent(player.getUUID(), id -> new Counters()).add(direction, type, bytes);
+    }
+
+    /**
+     * Snapshot the running totals into the history - once a second, server thread
+     */
+    public static void sample() {
+        getTotal().sample();
+        for (Counters counters : PLAYERS.values()) {
+            counters.sample();
+        }
+    }
+
+    /**
+     * Counters for all players together
+     */
+    public static Counters getTotal() {
+        Counters counters = total;
+        if (counters == null) {
+            synchronized (NetworkStats.class) {
+                if (total == null) {
+                    total = new Counters();
+                }
+                counters = total;
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Counters for one player, or null if they haven't sent or received anything
+     */
+    public static Counters getPlayer(UUID playerId) {
+        return PLAYERS.get(playerId);
+    }
+
+    public static void clearPlayer(UUID playerId) {
+        PLAYERS.remove(playerId);
+    }
+
+    /**
+     * Forget all counters - the total is recreated on next use, so an integrated server's next world starts at zero
+     */
+    public static void clear() {
+        PLAYERS.clear();
+        synchronized (NetworkStats.class) {
+            total = null;
+        }
+    }
+
+    /**
+     * Striped counters for one scope (a player or the total) plus their per-second history
+     */
+    public static final class Counters {
+        // Indexed by (type * 2 + direction); messages and bytes kept separately
+        private final LongAdder[] messages;
+        private final LongAdder[] bytes;
+
+        // Ring buffer of running totals, one row per second - server thread only
+        private final long[][] history;
+        private int head = 0;
+        private int samples = 0;
+
+        private Counters() {
+            int slots = TYPE_NAMES.size() * 2;
+            messages = new LongAdder[slots];
+            bytes = new LongAdder[slots];
+            for (int i = 0; i < slots; i++) {
+                messages[i] = new LongAdder();
+                bytes[i] = new LongAdder();
+            }
+            history = new long[HISTORY_SECONDS + 1][slots * 2];
+        }
+
+        private void add(Direction direction, int type, int size) {
+            int index = type * 2 + direction.ordinal();
+            if (index >= messages.length) return; // Registered after this scope was created
+
+            messages[index].increment();
+            bytes[index].add(size);
+        }
+
+        private void sample() {
+            head = (head + 1) % history.length;
+            long[] row = history[head];
+            for (int i = 0; i < messages.length; i++) {
+                row[i * 2] = messages[i].sum();
+                row[i * 2 + 1] = bytes[i].sum();
+            }
+            samples = Math.min(samples + 1, HISTORY_SECONDS);
+        }
+
+        /**
+         * Messages per second over the last {@code seconds} samples (or as many as exist)
+         */
+        public double getMessageRate(Direction direction, int type, int seconds) {
+            return rate(type * 2 + direction.ordinal(), 0, seconds);
+        }
+
+        /**
+         * Encoded bytes per second over the last {@code seconds} samples (or as many as exist)
+         */
+        public double getByteRate(Direction direction, int type, int seconds) {
+            return rate(type * 2 + direction.ordinal(), 1, seconds);
+        }
+
+        /**
+         * Lifetime message count, including the current partial second
+         */
+        public long getMessageTotal(Direction direction, int type) {
+            int index = type * 2 + direction.ordinal();
+            return index < messages.length ? messages[index].sum() : 0;
+        }
+
+        private double rate(int index, int metric, int seconds) {
+            int window = Math.min(seconds, samples);
+            if (window <= 0 || index >= messages.length) return 0;
+
+            long[] latest = history[head];
+            long[] oldest = history[(head - window + history.length) % history.length];
+            int column = index * 2 + metric;
+            return (latest[column] - oldest[column]) / (double) window;
+        }
+    }
+}
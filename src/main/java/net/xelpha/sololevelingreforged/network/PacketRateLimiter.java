@@ -0,0 +1,146 @@
+package net.xelpha.sololevelingreforged.network;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-player token buckets for client-to-server packets
+ * Checked in the packet handler on the Netty thread, before anything is queued onto the server thread,
+ * so a macro or a hostile client can't spend our tick time. Excess packets are dropped
+ */
+public final class PacketRateLimiter {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * Rate-limited packet kinds: burst size and sustained packets per second
+     */
+    public enum Type {
+        USE_SKILL(10, 5.0),
+        ALLOCATE_STAT(5, 2.0),
+        STORE_ITEM(5, 4.0),
+        WITHDRAW_ITEM(10, 5.0),
+        REQUEST_SYNC(2, 0.5),
+        REQUEST_INVENTORY_PAGE(20, 10.0);
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private final long nanosPerToken;
+
+        Type(int capacity, double perSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = perSecond / 1_000_000_000.0;
+            this.nanosPerToken = (long) (1_000_000_000.0 / perSecond);
+        }
+    }
+
+    private static final Map<UUID, Bucket[]> BUCKETS = new ConcurrentHashMap<>();
+
+    private PacketRateLimiter() {}
+
+    /**
+     * Take a token for a packet from this context's sender
+     * Rejected packets are marked handled so the caller can simply return
+     * @return true if the packet may be processed
+     */
+    public static boolean tryAcquire(Supplier<NetworkEvent.Context> context, Type type) {
+        ServerPlayer sender = context.get().getSender();
+        if (sender == null) {
+            // Not a server-bound packet - nothing to limit
+            return true;
+        }
+
+        Bucket[] buckets = BUCKETS.computeIfAbsent(sender.getUUID(), id -> createBuckets());
+        if (buckets[type.ordinal()].tryAcquire(System.nanoTime())) {
+            return true;
+        }
+
+        LOGGER.debug("Dropped {} packet from {} (rate limit)", type, sender.getGameProfile().getName());
+        context.get().setPacketHandled(true);
+        return false;
+    }
+
+    /**
+     * Drop a packet that failed its structural checks
+     * @return Always false, so validity checks can end with {@code return reject(...)}
+     */
+    public static boolean reject(Supplier<NetworkEvent.Context> context, String reason) {
+        ServerPlayer sender = context.get().getSender();
+        LOGGER.debug("Rejected packet from {}: {}", sender != null ? sender.getGameProfile().getName() : "?", reason);
+        context.get().setPacketHandled(true);
+        return false;
+    }
+
+    /**
+     * Take permission to answer a dropped packet (e.g. roll back a client prediction)
+     * Allowed at most once per token refill interval, so a flooding client can't turn dropped packets
+     * into unlimited outbound traffic
+     */
+    public static boolean tryAcquireReply(Supplier<NetworkEvent.Context> context, Type type) {
+        ServerPlayer sender = context.get().getSender();
+        if (sender == null) {
+            return false;
+        }
+
+        Bucket[] buckets = BUCKETS.computeIfAbsent(sender.getUUID(), id -> createBuckets());
+        return buckets[type.ordinal()].tryAcquireReply(System.nanoTime());
+    }
+
+    public static void clearPlayer(UUID playerId) {
+        BUCKETS.remove(playerId);
+    }
+
+    public static void clear() {
+        BUCKETS.clear();
+    }
+
+    private static Bucket[] createBuckets() {
+        Type[] types = Type.values();
+        Bucket[] buckets = new Bucket[types.length];
+        for (int i = 0; i < types.length; i++) {
+            buckets[i] = new Bucket(types[i]);
+        }
+        return buckets;
+    }
+
+    private static final class Bucket {
+        private final Type type;
+        private double tokens;
+        private long lastRefill;
+        private long nextReply;
+
+        private Bucket(Type type) {
+            this.type = type;
+            this.tokens = type.capacity;
+            this.lastRefill = System.nanoTime();
+            this.nextReply = lastRefill;
+        }
+
+        // A connection's packets all arrive on one Netty thread, so this lock is uncontended
+        private synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(type.capacity, tokens + (now - lastRefill) * type.tokensPerNano);
+            lastRefill = now;
+
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+
+        private synchronized boolean tryAcquireReply(long now) {
+            if (now - nextReply < 0) {
+                return false;
+            }
+            nextReply = now + type.nanosPerToken;
+            return true;
+        }
+    }
+}
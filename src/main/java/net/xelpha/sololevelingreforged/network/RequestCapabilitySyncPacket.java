@@ -0,0 +1,43 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+
+import java.util.function.Supplier;
+
+/**
+ * Packet sent by the client when it needs a full capability snapshot
+ * (e.g. a delta arrived before any snapshot was applied)
+ */
+public class RequestCapabilitySyncPacket {
+
+    public RequestCapabilitySyncPacket() {
+        // Empty constructor for sending
+    }
+
+    public RequestCapabilitySyncPacket(FriendlyByteBuf buf) {
+        // No data needed
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        // No data needed
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        if (!PacketRateLimiter.tryAcquire(context, PacketRateLimiter.Type.REQUEST_SYNC)) {
+            return;
+        }
+
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isServer()) {
+                ServerPlayer player = context.get().getSender();
+                if (player != null) {
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(PlayerCapability::sendFullSnapshot);
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
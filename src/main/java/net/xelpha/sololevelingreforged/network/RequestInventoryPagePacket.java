@@ -0,0 +1,88 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.InventorySortMode;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.core.SystemInventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Packet for requesting a window of System Inventory pages from the server
+ * The client asks for what it is about to show (plus prefetch) instead of receiving the whole inventory
+ */
+public class RequestInventoryPagePacket {
+
+    public static final int PAGE_SIZE = 35; // One full InventoryTab grid
+    public static final int MAX_PAGES_PER_REQUEST = 4;
+
+    private final int firstPage;
+    private final int pageCount;
+    private final InventorySortMode sortMode;
+    private final boolean ascending;
+
+    public RequestInventoryPagePacket(int firstPage, int pageCount, InventorySortMode sortMode, boolean ascending) {
+        this.firstPage = firstPage;
+        this.pageCount = pageCount;
+        this.sortMode = sortMode;
+        this.ascending = ascending;
+    }
+
+    public RequestInventoryPagePacket(FriendlyByteBuf buf) {
+        this.firstPage = buf.readVarInt();
+        this.pageCount = buf.readVarInt();
+        this.sortMode = InventorySortMode.byId(buf.readByte());
+        this.ascending = buf.readBoolean();
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(firstPage);
+        buf.writeVarInt(pageCount);
+        buf.writeByte(sortMode.ordinal());
+        buf.writeBoolean(ascending);
+    }
+
+    /**
+     * Network-thread checks: the window must start inside the inventory
+     */
+    private boolean isValid(Supplier<NetworkEvent.Context> context) {
+        if (firstPage < 0 || pageCount <= 0 || (long) firstPage * PAGE_SIZE >= PlayerCapability.MAX_INVENTORY_SLOTS) {
+            return PacketRateLimiter.reject(context, "inventory page out of range: " + firstPage);
+        }
+        return true;
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        if (!PacketRateLimiter.tryAcquire(context, PacketRateLimiter.Type.REQUEST_INVENTORY_PAGE) || !isValid(context)) {
+            return;
+        }
+
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isServer()) {
+                ServerPlayer player = context.get().getSender();
+                if (player != null) {
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                        int[] view = cap.getSortedInventoryView(sortMode, ascending);
+                        int start = firstPage * PAGE_SIZE;
+                        int end = Math.min(view.length, start + Math.min(pageCount, MAX_PAGES_PER_REQUEST) * PAGE_SIZE);
+
+                        int[] slots = new int[Math.max(0, end - start)];
+                        List<SystemInventory.Entry> entries = new ArrayList<>(slots.length);
+                        for (int i = start; i < end; i++) {
+                            slots[i - start] = view[i];
+                            entries.add(cap.getInventoryEntry(view[i]));
+                        }
+
+                        ModNetworkRegistry.sendToPlayer(player, new InventoryPagePacket(
+                            cap.getInventoryVersion(), view.length, sortMode, ascending, start, slots, entries));
+                    });
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,47 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+
+import java.util.function.Supplier;
+
+/**
+ * Server verdict on a skill cast the client predicted
+ * Accepted casts need nothing more; rejected ones are rolled back on the client
+ */
+public class SkillCastResultPacket {
+
+    private final int sequence;
+    private final boolean accepted;
+
+    public SkillCastResultPacket(int sequence, boolean accepted) {
+        this.sequence = sequence;
+        this.accepted = accepted;
+    }
+
+    public SkillCastResultPacket(FriendlyByteBuf buf) {
+        this.sequence = buf.readVarInt();
+        this.accepted = buf.readBoolean();
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(sequence);
+        buf.writeBoolean(accepted);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isClient()) {
+                Player player = Minecraft.getInstance().player;
+                if (player != null) {
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
+                        .ifPresent(cap -> cap.confirmSkillCast(sequence, accepted));
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,148 @@
+package net.xelpha.sololevelingreforged.network;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Sends full capability snapshots as deflate-compressed chunks (see {@link SyncCapabilityPacket})
+ * The snapshot tag is built on the server thread, then encoded and compressed once on a background thread.
+ * Chunks go out from the server tick under a shared byte budget, so a big login doesn't crowd out
+ * everyone else's traffic. While a player's transfer is in flight their deltas are held back
+ */
+public final class SnapshotTransfer {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public static final int CHUNK_SIZE = 16 * 1024;
+    public static final int MAX_CHUNKS = 512; // 8 MB compressed - far beyond any real snapshot
+    private static final int BYTES_PER_TICK = 64 * 1024; // Shared by all players; each transfer still gets one chunk
+
+    private static final ExecutorService ENCODER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SoloLeveling Snapshot Encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // In-flight transfers in start order - server thread only
+    private static final Map<UUID, Transfer> TRANSFERS = new LinkedHashMap<>();
+    private static int nextTransferId = 0;
+
+    private SnapshotTransfer() {}
+
+    /**
+     * Start sending a snapshot, replacing any transfer still in flight for this player
+     * Must be called on the server thread; the tag must not be modified afterwards
+     */
+    public static void send(ServerPlayer player, CompoundTag snapshot) {
+        int transferId = nextTransferId++;
+        CompletableFuture<byte[]> encoded = CompletableFuture.supplyAsync(() -> compress(snapshot), ENCODER);
+        TRANSFERS.remove(player.getUUID()); // Re-insert at the back of the queue
+        TRANSFERS.put(player.getUUID(), new Transfer(transferId, encoded));
+    }
+
+    /**
+     * @return true while a snapshot is on its way to this player - their deltas must wait for it
+     */
+    public static boolean isTransferring(ServerPlayer player) {
+        return TRANSFERS.containsKey(player.getUUID());
+    }
+
+    /**
+     * Send the next chunks of encoded snapshots - once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (TRANSFERS.isEmpty()) return;
+
+        int budget = BYTES_PER_TICK;
+        Iterator<Map.Entry<UUID, Transfer>> iterator = TRANSFERS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Transfer> entry = iterator.next();
+            Transfer transfer = entry.getValue();
+            if (!transfer.encoded.isDone()) continue;
+
+            ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+            byte[] data = transfer.encoded.getNow(null);
+            if (player == null || data == null) {
+                // Player left, or encoding failed (already logged) - they can ask for a resync
+                iterator.remove();
+                continue;
+            }
+
+            int chunkCount = Math.max(1, (data.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            if (chunkCount > MAX_CHUNKS) {
+                LOGGER.error("System snapshot for {} is too large to send ({} bytes compressed)",
+                    player.getGameProfile().getName(), data.length);
+                iterator.remove();
+                continue;
+            }
+
+            // Every transfer moves at least one chunk per tick; the budget only limits extra chunks
+            boolean first = true;
+            while (transfer.nextChunk < chunkCount && (first || budget > 0)) {
+                int start = transfer.nextChunk * CHUNK_SIZE;
+                int end = Math.min(data.length, start + CHUNK_SIZE);
+                ModNetworkRegistry.sendToPlayer(player, new SyncCapabilityPacket(
+                    transfer.id, transfer.nextChunk, chunkCount, Arrays.copyOfRange(data, start, end)));
+
+                transfer.nextChunk++;
+                budget -= end - start;
+                first = false;
+            }
+
+            if (transfer.nextChunk >= chunkCount) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void clearPlayer(UUID playerId) {
+        TRANSFERS.remove(playerId);
+    }
+
+    public static void clear() {
+        TRANSFERS.clear();
+    }
+
+    private static byte[] compress(CompoundTag snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            NbtIo.write(snapshot, out);
+        } catch (IOException e) {
+            LOGGER.error("Failed to encode System snapshot", e);
+            return null;
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class Transfer {
+        private final int id;
+        private final CompletableFuture<byte[]> encoded;
+        private int nextChunk = 0;
+
+        private Transfer(int id, CompletableFuture<byte[]> encoded) {
+            this.id = id;
+            this.encoded = encoded;
+        }
+    }
+}
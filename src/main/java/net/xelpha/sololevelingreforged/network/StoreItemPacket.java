@@ -5,64 +5,97 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
 
 import java.util.function.Supplier;
 
 /**
- * Packet for storing held item into the System Inventory
+ * Packet for storing items into the System Inventory
  * Solo Leveling style - items go into the system's dimensional storage
+ * Bulk modes run as one transaction with a single sync, instead of one packet per stack
  */
 public class StoreItemPacket {
 
+    public enum Mode {
+        HELD,     // The main-hand stack
+        ALL,      // Everything in the main inventory and hotbar
+        MATCHING  // Only stacks the System Inventory already holds
+    }
+
+    private final Mode mode;
+
     public StoreItemPacket() {
-        // Empty constructor for receiving
+        this(Mode.HELD);
+    }
+
+    public StoreItemPacket(Mode mode) {
+        this.mode = mode;
     }
 
     public StoreItemPacket(FriendlyByteBuf buf) {
-        // No data needed - we store whatever the player is holding
+        this.mode = buf.readEnum(Mode.class);
     }
 
     public void encode(FriendlyByteBuf buf) {
-        // No data needed
+        buf.writeEnum(mode);
     }
 
     public void handle(Supplier<NetworkEvent.Context> context) {
+        if (!PacketRateLimiter.tryAcquire(context, PacketRateLimiter.Type.STORE_ITEM)) {
+            return;
+        }
+
         context.get().enqueueWork(() -> {
             if (context.get().getDirection().getReceptionSide().isServer()) {
                 ServerPlayer player = context.get().getSender();
                 if (player != null) {
-                    ItemStack heldItem = player.getMainHandItem();
-                    
-                    if (!heldItem.isEmpty()) {
-                        player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                            // Store the item in system inventory
-                            boolean stored = cap.addItemToInventory(heldItem.copy());
-                            
-                            if (stored) {
-                                // Remove item from player's hand
-                                player.getMainHandItem().setCount(0);
-                                
-                                // Send system message
-                                player.sendSystemMessage(Component.literal(
-                                    "§b[System] §f" + heldItem.getHoverName().getString() + " §7stored in System Inventory"
-                                ));
-                                
-                                // Sync capability to client
-                                ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                                    new SyncCapabilityPacket(cap.serializeNBT()));
-                            } else {
-                                // Inventory full (shouldn't happen with unlimited storage, but just in case)
-                                player.sendSystemMessage(Component.literal(
-                                    "§c[System] §fFailed to store item"
-                                ));
-                            }
-                        });
-                    }
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                        if (mode == Mode.HELD) {
+                            storeHeldItem(player, cap);
+                        } else {
+                            storeInventory(player, cap);
+                        }
+                    });
                 }
             }
         });
         context.get().setPacketHandled(true);
     }
+
+    private void storeHeldItem(ServerPlayer player, PlayerCapability cap) {
+        ItemStack heldItem = player.getMainHandItem();
+        if (heldItem.isEmpty()) return;
+
+        // Store the item in system inventory
+        boolean stored = cap.addItemToInventory(heldItem.copy());
+
+        if (stored) {
+            // Remove item from player's hand
+            player.getMainHandItem().setCount(0);
+
+            // Send system message
+            player.sendSystemMessage(Component.literal(
+                "§b[System] §f" + heldItem.getHoverName().getString() + " §7stored in System Inventory"
+            ));
+        } else {
+            // Inventory full (shouldn't happen with unlimited storage, but just in case)
+            player.sendSystemMessage(Component.literal(
+                "§c[System] §fFailed to store item"
+            ));
+        }
+    }
+
+    private void storeInventory(ServerPlayer player, PlayerCapability cap) {
+        long stored = cap.storeFromInventory(player.getInventory(), mode == Mode.MATCHING);
+
+        if (stored > 0) {
+            player.sendSystemMessage(Component.literal(
+                "§b[System] §f" + stored + " items §7stored in System Inventory"
+            ));
+        } else {
+            player.sendSystemMessage(Component.literal(
+                mode == Mode.MATCHING ? "§7[System] §fNo items match your System Inventory" : "§7[System] §fNothing to store"
+            ));
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
+
+import java.util.function.Supplier;
+
+/**
+ * Packet for syncing only the changed PlayerCapability field groups to the client
+ * Applied on top of the last full snapshot received through {@link SyncCapabilityPacket}
+ */
+public class SyncCapabilityDeltaPacket {
+
+    private final CompoundTag delta;
+
+    public SyncCapabilityDeltaPacket(CompoundTag delta) {
+        this.delta = delta;
+    }
+
+    public SyncCapabilityDeltaPacket(FriendlyByteBuf buf) {
+        this.delta = buf.readNbt();
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeNbt(delta);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isClient() && delta != null) {
+                Player player = Minecraft.getInstance().player;
+                if (player != null) {
+                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                        if (!cap.hasSnapshot()) {
+                            // Nothing to apply the delta on top of (e.g. player entity was recreated)
+                            ModNetworkRegistry.CHANNEL.sendToServer(new RequestCapabilitySyncPacket());
+                            return;
+                        }
+
+                        cap.applyDelta(delta);
+                        net.xelpha.sololevelingreforged.ui.InventoryPageCache.get()
+                            .onHeader(cap.getInventoryVersion(), cap.getInventorySize());
+
+                        // Immediately refresh the UI if the System Console is open
+                        net.xelpha.sololevelingreforged.ui.SystemConsoleScreen screen =
+                            net.xelpha.sololevelingreforged.ui.SystemConsoleScreen.getOpenScreen();
+                        if (screen != null) {
+                            screen.forceRefresh();
+                        }
+                    });
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
@@ -1,66 +1,142 @@
 package net.xelpha.sololevelingreforged.network;
 
+import com.google.common.io.ByteStreams;
+import com.mojang.logging.LogUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import org.slf4j.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.util.function.Supplier;
+import java.util.zip.InflaterInputStream;
 
 /**
- * Packet for syncing PlayerCapability data between client and server
+ * Packet for syncing PlayerCapability data from the server to the client
+ * Carries one chunk of a deflate-compressed full snapshot (see {@link SnapshotTransfer}), so a snapshot
+ * of any size fits under the packet and NBT size limits - routine updates use {@link SyncCapabilityDeltaPacket}
+ * Registered PLAY_TO_CLIENT only, so Forge refuses it if a client sends one
  */
 public class SyncCapabilityPacket {
 
-    private final CompoundTag capabilityData;
+    private static final Logger LOGGER = LogUtils.getLogger();
 
-    public SyncCapabilityPacket(CompoundTag capabilityData) {
-        this.capabilityData = capabilityData;
+    // Cap on the inflated snapshot - the largest compressed transfer at a generous expansion ratio
+    private static final long MAX_SNAPSHOT_BYTES = (long) SnapshotTransfer.MAX_CHUNKS * SnapshotTransfer.CHUNK_SIZE * 4;
+
+    // Client side - chunks of the transfer being reassembled
+    private static int assemblingId = -1;
+    private static byte[][] assemblingChunks;
+    private static int chunksReceived;
+
+    private final int transferId;
+    private final int chunkIndex;
+    private final int chunkCount;
+    private final byte[] data;
+
+    public SyncCapabilityPacket(int transferId, int chunkIndex, int chunkCount, byte[] data) {
+        this.transferId = transferId;
+        this.chunkIndex = chunkIndex;
+        this.chunkCount = chunkCount;
+        this.data = data;
     }
 
     public SyncCapabilityPacket(FriendlyByteBuf buf) {
-        this.capabilityData = buf.readNbt();
+        this.transferId = buf.readVarInt();
+        this.chunkIndex = buf.readVarInt();
+        this.chunkCount = buf.readVarInt();
+        this.data = buf.readByteArray(SnapshotTransfer.CHUNK_SIZE);
     }
 
     public void encode(FriendlyByteBuf buf) {
-        buf.writeNbt(capabilityData);
+        buf.writeVarInt(transferId);
+        buf.writeVarInt(chunkIndex);
+        buf.writeVarInt(chunkCount);
+        buf.writeByteArray(data);
     }
 
     public void handle(Supplier<NetworkEvent.Context> context) {
         context.get().enqueueWork(() -> {
-            // Check if this is coming from client to server
-            if (context.get().getDirection().getReceptionSide().isServer()) {
-                // Handle on server side - update server capability
-                ServerPlayer sender = context.get().getSender();
-                if (sender != null) {
-                    sender.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                        cap.deserializeNBT(capabilityData);
-                        // Sync back to all clients
-                        ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> sender),
-                                                       new SyncCapabilityPacket(capabilityData));
-                    });
-                }
-            } else {
-                // Handle on client side
-                Player player = Minecraft.getInstance().player;
-                if (player != null) {
-                    player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                        cap.deserializeNBT(capabilityData);
-                        
-                        // Immediately refresh the UI if the System Console is open
-                        net.xelpha.sololevelingreforged.ui.SystemConsoleScreen screen = 
-                            net.xelpha.sololevelingreforged.ui.SystemConsoleScreen.getOpenScreen();
-                        if (screen != null) {
-                            screen.forceRefresh();
-                        }
-                    });
-                }
+            // Client side only - the server is authoritative and never accepts capability data from clients
+            CompoundTag snapshot = acceptChunk();
+            Player player = Minecraft.getInstance().player;
+            if (snapshot != null && player != null) {
+                player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
+                    cap.applySnapshot(snapshot);
+                    net.xelpha.sololevelingreforged.ui.InventoryPageCache.get()
+                        .onHeader(cap.getInventoryVersion(), cap.getInventorySize());
+                    
+                    // Immediately refresh the UI if the System Console is open
+                    net.xelpha.sololevelingreforged.ui.SystemConsoleScreen screen = 
+                        net.xelpha.sololevelingreforged.ui.SystemConsoleScreen.getOpenScreen();
+                    if (screen != null) {
+                        screen.forceRefresh();
+                    }
+                });
             }
         });
         context.get().setPacketHandled(true);
     }
-}
\ No newline at end of file
+
+    /**
+     * Add this chunk to the transfer being reassembled (client thread)
+     * A chunk from a newer transfer drops any older partial one
+     * @return The decoded snapshot once the last chunk is in, otherwise null
+     */
+    private CompoundTag acceptChunk() {
+        if (chunkCount <= 0 || chunkCount > SnapshotTransfer.MAX_CHUNKS || chunkIndex < 0 || chunkIndex >= chunkCount) {
+            return null;
+        }
+
+        if (transferId != assemblingId) {
+            assemblingId = transferId;
+            assemblingChunks = new byte[chunkCount][];
+            chunksReceived = 0;
+        }
+        if (assemblingChunks.length != chunkCount || assemblingChunks[chunkIndex] != null) {
+            return null;
+        }
+
+        assemblingChunks[chunkIndex] = data;
+        if (++chunksReceived < chunkCount) {
+            return null;
+        }
+
+        int length = 0;
+        for (byte[] chunk : assemblingChunks) {
+            length += chunk.length;
+        }
+        byte[] compressed = new byte[length];
+        int offset = 0;
+        for (byte[] chunk : assemblingChunks) {
+            System.arraycopy(chunk, 0, compressed, offset, chunk.length);
+            offset += chunk.length;
+        }
+        reset();
+
+        // Inflated output is capped, so a hostile or broken server can't exhaust client memory
+        try (DataInputStream in = new DataInputStream(ByteStreams.limit(
+                new InflaterInputStream(new ByteArrayInputStream(compressed)), MAX_SNAPSHOT_BYTES))) {
+            return NbtIo.read(in, new NbtAccounter(MAX_SNAPSHOT_BYTES));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to decode System snapshot", e);
+            return null;
+        }
+    }
+
+    /**
+     * Drop any partially received transfer - called when the client leaves a server
+     */
+    public static void reset() {
+        assemblingId = -1;
+        assemblingChunks = null;
+        chunksReceived = 0;
+    }
+}
@@ -0,0 +1,54 @@
+package net.xelpha.sololevelingreforged.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.core.Stat;
+import net.xelpha.sololevelingreforged.skills.SkillRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Login handshake - tells the client which numeric ID the server uses for every skill and stat
+ * List position is the ID: skills follow SkillRegistry indices, stats follow Stat ordinals
+ */
+public class SyncNetworkIdsPacket {
+
+    private final List<ResourceLocation> skillIds;
+    private final List<String> statKeys;
+
+    /**
+     * Build the server's table
+     */
+    public SyncNetworkIdsPacket() {
+        this.skillIds = new ArrayList<>(SkillRegistry.getSkillCount());
+        for (int i = 0; i < SkillRegistry.getSkillCount(); i++) {
+            skillIds.add(SkillRegistry.getId(i));
+        }
+        this.statKeys = new ArrayList<>();
+        for (Stat stat : Stat.values()) {
+            statKeys.add(stat.getKey());
+        }
+    }
+
+    public SyncNetworkIdsPacket(FriendlyByteBuf buf) {
+        this.skillIds = buf.readList(FriendlyByteBuf::readResourceLocation);
+        this.statKeys = buf.readList(FriendlyByteBuf::readUtf);
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeCollection(skillIds, FriendlyByteBuf::writeResourceLocation);
+        buf.writeCollection(statKeys, FriendlyByteBuf::writeUtf);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        context.get().enqueueWork(() -> {
+            if (context.get().getDirection().getReceptionSide().isClient()) {
+                NetworkIdTable.load(skillIds, statKeys);
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+}
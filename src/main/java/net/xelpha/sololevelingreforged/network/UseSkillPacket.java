@@ -2,8 +2,10 @@ package net.xelpha.sololevelingreforged.network;
 
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
+import net.xelpha.sololevelingreforged.skills.SkillRegistry;
 
 import java.util.function.Supplier;
 
@@ -12,40 +14,66 @@ import java.util.function.Supplier;
  */
 public class UseSkillPacket {
 
-    private final String skillId;
+    private final int skillIndex; // SkillRegistry index, see NetworkIdTable
+    private final int sequence; // Cast sequence number - echoed back in SkillCastResultPacket
 
-    public UseSkillPacket(String skillId) {
-        this.skillId = skillId;
+    public UseSkillPacket(int skillIndex, int sequence) {
+        this.skillIndex = skillIndex;
+        this.sequence = sequence;
     }
 
     public UseSkillPacket(FriendlyByteBuf buf) {
-        this.skillId = buf.readUtf();
+        this.skillIndex = buf.readVarInt();
+        this.sequence = buf.readVarInt();
     }
 
     public void toBytes(FriendlyByteBuf buf) {
-        buf.writeUtf(skillId);
+        buf.writeVarInt(skillIndex);
+        buf.writeVarInt(sequence);
+    }
+
+    /**
+     * Network-thread checks: known skill index
+     */
+    private boolean isValid(Supplier<NetworkEvent.Context> ctx) {
+        if (skillIndex < 0 || skillIndex >= SkillRegistry.getSkillCount()) {
+            return PacketRateLimiter.reject(ctx, "unknown skill index " + skillIndex);
+        }
+        return true;
     }
 
     public boolean handle(Supplier<NetworkEvent.Context> ctx) {
+        if (!PacketRateLimiter.tryAcquire(ctx, PacketRateLimiter.Type.USE_SKILL) || !isValid(ctx)) {
+            // Roll back the client's prediction without touching the server thread - at most once per refill,
+            // predictions left unanswered expire on the client (PlayerCapability.expirePredictedCasts)
+            ServerPlayer sender = ctx.get().getSender();
+            if (sender != null && PacketRateLimiter.tryAcquireReply(ctx, PacketRateLimiter.Type.USE_SKILL)) {
+                ModNetworkRegistry.sendToPlayer(sender, new SkillCastResultPacket(sequence, false));
+            }
+            return true;
+        }
+
         ctx.get().enqueueWork(() -> {
             ServerPlayer player = ctx.get().getSender();
             if (player != null) {
                 player.getCapability(net.xelpha.sololevelingreforged.core.PlayerCapability.PLAYER_SYSTEM_CAP)
                     .ifPresent(cap -> {
-                        net.minecraft.resources.ResourceLocation skillKey =
-                            new net.minecraft.resources.ResourceLocation(
-                                net.xelpha.sololevelingreforged.Sololevelingreforged.MODID, skillId);
+                        ResourceLocation skillKey = SkillRegistry.getId(skillIndex);
 
-                        if (cap.hasSkill(skillKey)) {
-                            boolean success = cap.useSkill(skillKey, player);
+                        boolean success = false;
+                        if (skillKey != null && cap.hasSkill(skillKey)) {
+                            success = cap.useSkill(skillKey, player);
                             if (!success) {
                                 // Send failure message
-                                player.sendSystemMessage(Component.literal("Failed to use skill: " + skillId));
+                                player.sendSystemMessage(Component.literal("Failed to use skill: " + skillKey.getPath()));
                             }
                         } else {
                             // Player doesn't have this skill
                             player.sendSystemMessage(Component.literal("You haven't learned this skill yet!"));
                         }
+
+                        // Confirm or roll back the client's prediction
+                        ModNetworkRegistry.sendToPlayer(player, new SkillCastResultPacket(sequence, success));
                     });
             }
         });
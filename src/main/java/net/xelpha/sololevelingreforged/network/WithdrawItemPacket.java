@@ -3,57 +3,87 @@ package net.xelpha.sololevelingreforged.network;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.core.SystemInventory;
 
 import java.util.function.Supplier;
 
 /**
  * Packet for withdrawing items from the System Inventory
+ * Takes up to {@code amount} items from each listed slot in one transaction with a single sync
  */
 public class WithdrawItemPacket {
     
-    private final int slotIndex;
+    private final int[] slots;
+    private final long amount;          // Items per slot, Long.MAX_VALUE for the whole entry
+    private final int inventoryVersion; // Version of the page the client picked the slots from
 
-    public WithdrawItemPacket(int slotIndex) {
-        this.slotIndex = slotIndex;
+    public WithdrawItemPacket(int[] slots, long amount, int inventoryVersion) {
+        this.slots = slots;
+        this.amount = amount;
+        this.inventoryVersion = inventoryVersion;
     }
 
     public WithdrawItemPacket(FriendlyByteBuf buf) {
-        this.slotIndex = buf.readInt();
+        this.slots = buf.readVarIntArray(PlayerCapability.MAX_INVENTORY_SLOTS);
+        this.amount = buf.readVarLong();
+        this.inventoryVersion = buf.readVarInt();
     }
 
     public void encode(FriendlyByteBuf buf) {
-        buf.writeInt(slotIndex);
+        buf.writeVarIntArray(slots);
+        buf.writeVarLong(amount);
+        buf.writeVarInt(inventoryVersion);
+    }
+
+    /**
+     * Network-thread checks: slot indices in range and a positive amount
+     */
+    private boolean isValid(Supplier<NetworkEvent.Context> context) {
+        if (slots.length == 0 || amount <= 0) {
+            return PacketRateLimiter.reject(context, "empty withdraw");
+        }
+        for (int slot : slots) {
+            if (slot < 0 || slot >= PlayerCapability.MAX_INVENTORY_SLOTS) {
+                return PacketRateLimiter.reject(context, "withdraw slot out of range: " + slot);
+            }
+        }
+        return true;
     }
 
     public void handle(Supplier<NetworkEvent.Context> context) {
+        if (!PacketRateLimiter.tryAcquire(context, PacketRateLimiter.Type.WITHDRAW_ITEM) || !isValid(context)) {
+            return;
+        }
+
         context.get().enqueueWork(() -> {
             if (context.get().getDirection().getReceptionSide().isServer()) {
                 ServerPlayer player = context.get().getSender();
                 if (player != null) {
                     player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP).ifPresent(cap -> {
-                        ItemStack withdrawn = cap.removeItemFromInventory(slotIndex);
-                        
-                        if (!withdrawn.isEmpty()) {
-                            // Give item to player
-                            if (!player.getInventory().add(withdrawn)) {
-                                // Inventory full - drop at feet
-                                player.drop(withdrawn, false);
-                                player.sendSystemMessage(Component.literal(
-                                    "§b[System] §f" + withdrawn.getHoverName().getString() + " §7dropped (inventory full)"
-                                ));
-                            } else {
-                                player.sendSystemMessage(Component.literal(
-                                    "§b[System] §f" + withdrawn.getHoverName().getString() + " §7withdrawn"
-                                ));
-                            }
-                            
-                            // Sync capability to client
-                            ModNetworkRegistry.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player),
-                                new SyncCapabilityPacket(cap.serializeNBT()));
+                        if (cap.getInventoryVersion() != inventoryVersion) {
+                            // Slots moved since the client's page was sent - don't hand out the wrong stack
+                            player.sendSystemMessage(Component.literal(
+                                "§c[System] §fSystem Inventory changed, please try again"
+                            ));
+                            return;
+                        }
+
+                        SystemInventory.Entry first = cap.getInventoryEntry(slots[0]);
+                        long moved = cap.withdrawToInventory(player.getInventory(), slots, amount);
+
+                        if (moved > 0) {
+                            String what = slots.length == 1 && first != null
+                                ? first.getHoverName().getString() + " x" + moved
+                                : moved + " items";
+                            player.sendSystemMessage(Component.literal(
+                                "§b[System] §f" + what + " §7withdrawn"
+                            ));
+                        } else if (first != null) {
+                            player.sendSystemMessage(Component.literal(
+                                "§c[System] §fYour inventory is full"
+                            ));
                         }
                     });
                 }
@@ -6,6 +6,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.entity.ShadowArmyRegistry;
 import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
 
 /**
@@ -37,11 +38,9 @@ public class BerserkShadowsSkill extends Skill {
         ServerLevel level = player.serverLevel();
         int affectedSoldiers = 0;
 
-        // Find all shadow soldiers owned by this player
-        for (ShadowSoldierEntity soldier : level.getEntitiesOfClass(ShadowSoldierEntity.class,
-            player.getBoundingBox().inflate(200.0D))) {
-
-            if (soldier.isOwnedBy(player)) {
+        // Empower every soldier this player has in the current dimension
+        for (ShadowSoldierEntity soldier : ShadowArmyRegistry.getArmy(level, player.getUUID())) {
+            if (soldier.isAlive()) {
                 applyBerserkEffects(soldier);
                 affectedSoldiers++;
             }
@@ -59,7 +58,7 @@ public class BerserkShadowsSkill extends Skill {
         player.sendSystemMessage(Component.literal("Berserk Shadows activated! " + affectedSoldiers +
             " shadow soldiers empowered for " + (getEffectDuration() / 20) + " seconds!"));
 
-        markUsed();
+        markUsed(player);
         return true;
     }
 
@@ -50,7 +50,7 @@ public class DaggerThrowSkill extends Skill {
         player.sendSystemMessage(Component.literal("Thrown " + numDaggers + " homing dagger" +
             (numDaggers > 1 ? "s" : "") + "!"));
 
-        markUsed();
+        markUsed(player);
         return true;
     }
 
@@ -57,7 +57,7 @@ public class DashSkill extends Skill {
         player.sendSystemMessage(Component.literal("Dashed forward " +
             String.format("%.1f", getDashDistance()) + " blocks!"));
 
-        markUsed();
+        markUsed(player);
         return true;
     }
 
@@ -1,15 +1,12 @@
 package net.xelpha.sololevelingreforged.skills;
 
-import net.minecraftforge.event.entity.living.LivingDeathEvent;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.common.Mod;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
+import net.xelpha.sololevelingreforged.core.MobClassification;
 
 /**
  * Predator - Passive skill that increases XP gain from killing monsters
  * Higher level monsters give exponentially more XP
  */
-@Mod.EventBusSubscriber(modid = Sololevelingreforged.MODID)
 public class PredatorSkill extends Skill {
 
     public PredatorSkill() {
@@ -43,6 +40,7 @@ public class PredatorSkill extends Skill {
 
     /**
      * Calculate XP multiplier based on skill level and monster difficulty
+     * Applied by the Predator stage of KillExperiencePipeline
      */
     public float getXpMultiplier(net.minecraft.world.entity.LivingEntity target) {
         if (currentLevel == 0) return 1.0f;
@@ -57,22 +55,11 @@ public class PredatorSkill extends Skill {
         }
 
         // Boss bonus
-        String entityType = target.getType().getDescriptionId().toLowerCase();
-        if (entityType.contains("wither") || entityType.contains("ender_dragon") ||
-            entityType.contains("warden") || target.getMaxHealth() >= 200) {
+        if (MobClassification.get(target.getType()).tier() == MobClassification.Tier.BOSS
+            || target.getMaxHealth() >= 200) {
             baseMultiplier *= (1.5f + currentLevel * 0.1f);
         }
 
         return baseMultiplier;
     }
-
-    /**
-     * Event handler for XP gain modification
-     * This is called from XPEventHandler when calculating XP
-     */
-    @SubscribeEvent
-    public static void onLivingDeath(LivingDeathEvent event) {
-        // This is handled in XPEventHandler to avoid double processing
-        // The Predator skill multiplier is applied there
-    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.xelpha.sololevelingreforged.Sololevelingreforged;
 import net.xelpha.sololevelingreforged.ModEntities;
+import net.xelpha.sololevelingreforged.entity.ShadowArmyRegistry;
 import net.xelpha.sololevelingreforged.entity.ShadowSoldierEntity;
 
 /**
@@ -32,6 +33,12 @@ public class ShadowExtractionSkill extends Skill {
 
     @Override
     public boolean activate(ServerPlayer player) {
+        // Army cap first - canActivate spends the mana. Counted from the registry, no world scan
+        if (ShadowArmyRegistry.getArmySize(player.getUUID()) >= getMaxShadowArmySize()) {
+            player.sendSystemMessage(Component.literal("Your shadow army is full! (" + getMaxShadowArmySize() + " soldiers)"));
+            return false;
+        }
+
         if (!canActivate(player)) {
             player.sendSystemMessage(Component.literal("Cannot use Shadow Extraction: On cooldown or insufficient mana!"));
             return false;
@@ -66,7 +73,7 @@ public class ShadowExtractionSkill extends Skill {
             return false;
         }
 
-        markUsed();
+        markUsed(player);
         return true;
     }
 
@@ -93,7 +100,7 @@ public class ShadowExtractionSkill extends Skill {
 
             // Send success message
             player.sendSystemMessage(Component.literal("Shadow soldier created! Army size: " +
-                getPlayerShadowCount(player) + "/" + getMaxShadowArmySize()));
+                ShadowArmyRegistry.getArmySize(player.getUUID()) + "/" + getMaxShadowArmySize()));
         }
 
         return added;
@@ -115,15 +122,6 @@ public class ShadowExtractionSkill extends Skill {
             SoundEvents.ENDERMAN_TELEPORT, SoundSource.HOSTILE, 1.0F, 0.5F);
     }
 
-    private int getPlayerShadowCount(ServerPlayer player) {
-        // Count shadow soldiers owned by this player
-        return (int) player.serverLevel().getEntitiesOfClass(ShadowSoldierEntity.class,
-            player.getBoundingBox().inflate(200.0D))
-            .stream()
-            .filter(soldier -> soldier.getOwner() == player)
-            .count();
-    }
-
     private int getMaxShadowArmySize() {
         // Scale with skill level: 1 + level (max 11 soldiers)
         return 1 + currentLevel;
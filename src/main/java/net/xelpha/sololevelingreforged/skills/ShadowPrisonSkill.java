@@ -71,7 +71,7 @@ public class ShadowPrisonSkill extends Skill {
         player.sendSystemMessage(Component.literal("Shadow Prison activated! " + affectedEnemies +
             " enemies imprisoned for " + (getEffectDuration() / 20) + " seconds!"));
 
-        markUsed();
+        markUsed(player);
         return true;
     }
 
@@ -5,6 +5,7 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import net.xelpha.sololevelingreforged.core.PlayerCapability;
 
 /**
  * Base class for all Solo Leveling skills
@@ -24,9 +25,8 @@ public abstract class Skill {
     protected final int baseCooldownTicks; // Minecraft ticks (20 = 1 second)
     protected final int unlockLevel;
 
-    // Current state
+    // Current state - cooldowns are tracked per player on the PlayerCapability
     protected int currentLevel = 0;
-    protected long lastUsedTime = 0;
 
     public Skill(ResourceLocation id, String name, String description, SkillType type,
                 int maxLevel, int baseManaCost, int baseCooldownTicks, int unlockLevel) {
@@ -83,29 +83,26 @@ public abstract class Skill {
     }
 
     /**
-     * Check if skill is on cooldown
+     * Check if skill is on cooldown for a player
      */
-    public boolean isOnCooldown() {
-        if (lastUsedTime == 0) return false;
-        return System.currentTimeMillis() - lastUsedTime < getCooldownTicks() * 50; // Convert ticks to ms
+    public boolean isOnCooldown(Player player) {
+        return getRemainingCooldownTicks(player) > 0;
     }
 
     /**
-     * Get remaining cooldown in ticks
+     * Get remaining cooldown in game ticks
      */
-    public int getRemainingCooldownTicks() {
-        if (!isOnCooldown()) return 0;
-        long elapsedMs = System.currentTimeMillis() - lastUsedTime;
-        long remainingMs = (getCooldownTicks() * 50) - elapsedMs;
-        return (int) Math.max(0, remainingMs / 50);
+    public int getRemainingCooldownTicks(Player player) {
+        return player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
+            .map(cap -> cap.getRemainingCooldownTicks(id)).orElse(0);
     }
 
     /**
-     * Get remaining cooldown as percentage (0.0 to 1.0)
+     * Get cooldown progress (0.0 just used, 1.0 ready)
      */
-    public float getCooldownProgress() {
-        if (!isOnCooldown()) return 1.0f;
-        return 1.0f - (getRemainingCooldownTicks() / (float) getCooldownTicks());
+    public float getCooldownProgress(Player player) {
+        return player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
+            .map(cap -> cap.getCooldownProgress(id)).orElse(1.0f);
     }
 
     // ===== LEVEL MANAGEMENT =====
@@ -131,7 +128,7 @@ public abstract class Skill {
     /**
      * Check if player meets unlock requirements using Solo Leveling level
      */
-    public boolean canUnlock(net.xelpha.sololevelingreforged.core.PlayerCapability capability) {
+    public boolean canUnlock(PlayerCapability capability) {
         // Check Solo Leveling level instead of vanilla experience level
         return capability != null && capability.getLevel() >= unlockLevel;
     }
@@ -142,8 +139,8 @@ public abstract class Skill {
      * Common activation checks
      */
     protected boolean canActivate(ServerPlayer player) {
-        if (isOnCooldown()) return false;
-        if (getManaCost() > 0 && !player.getCapability(net.xelpha.sololevelingreforged.core.PlayerCapability.PLAYER_SYSTEM_CAP)
+        if (isOnCooldown(player)) return false;
+        if (getManaCost() > 0 && !player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
             .map(cap -> cap.consumeMana(getManaCost())).orElse(false)) {
             return false;
         }
@@ -151,10 +148,11 @@ public abstract class Skill {
     }
 
     /**
-     * Mark skill as used (update cooldown)
+     * Mark skill as used - starts the cooldown on the player's game-time clock
      */
-    protected void markUsed() {
-        lastUsedTime = System.currentTimeMillis();
+    protected void markUsed(ServerPlayer player) {
+        player.getCapability(PlayerCapability.PLAYER_SYSTEM_CAP)
+            .ifPresent(cap -> cap.startCooldown(id, getCooldownTicks()));
     }
 
     // ===== GETTERS =====
@@ -178,13 +176,12 @@ public abstract class Skill {
         Codec.INT.fieldOf("base_mana_cost").forGetter(skill -> skill.baseManaCost),
         Codec.INT.fieldOf("base_cooldown_ticks").forGetter(skill -> skill.baseCooldownTicks),
         Codec.INT.fieldOf("unlock_level").forGetter(Skill::getUnlockLevel),
-        Codec.INT.fieldOf("current_level").forGetter(Skill::getCurrentLevel),
-        Codec.LONG.fieldOf("last_used_time").forGetter(skill -> skill.lastUsedTime)
+        Codec.INT.fieldOf("current_level").forGetter(Skill::getCurrentLevel)
     ).apply(instance, Skill::fromCodec));
 
     protected static Skill fromCodec(ResourceLocation id, String name, String description, SkillType type,
                                    int maxLevel, int baseManaCost, int baseCooldownTicks, int unlockLevel,
-                                   int currentLevel, long lastUsedTime) {
+                                   int currentLevel) {
         // This will be overridden by subclasses
         return new Skill(id, name, description, type, maxLevel, baseManaCost, baseCooldownTicks, unlockLevel) {
             @Override
@@ -18,6 +18,10 @@ public class SkillRegistry {
     private static final Map<ResourceLocation, Supplier<Skill>> SKILL_SUPPLIERS = new HashMap<>();
     private static final Map<ResourceLocation, Skill> REGISTERED_SKILLS = new HashMap<>();
 
+    // Dense per-skill indices (sorted by ID so both sides agree) for per-player primitive arrays
+    private static ResourceLocation[] SKILL_IDS = new ResourceLocation[0];
+    private static final Map<ResourceLocation, Integer> SKILL_INDICES = new HashMap<>();
+
     // Register all skills during mod initialization
     public static void registerSkills() {
         // Active Skills
@@ -37,6 +41,13 @@ public class SkillRegistry {
         for (Map.Entry<ResourceLocation, Supplier<Skill>> entry : SKILL_SUPPLIERS.entrySet()) {
             REGISTERED_SKILLS.put(entry.getKey(), entry.getValue().get());
         }
+
+        // Assign indices
+        SKILL_IDS = SKILL_SUPPLIERS.keySet().stream().sorted().toArray(ResourceLocation[]::new);
+        SKILL_INDICES.clear();
+        for (int i = 0; i < SKILL_IDS.length; i++) {
+            SKILL_INDICES.put(SKILL_IDS[i], i);
+        }
     }
 
     /**
@@ -54,6 +65,28 @@ public class SkillRegistry {
         return REGISTERED_SKILLS.get(id);
     }
 
+    /**
+     * Get the dense index of a skill
+     * @return The index, or -1 if the skill isn't registered
+     */
+    public static int getIndex(ResourceLocation id) {
+        return SKILL_INDICES.getOrDefault(id, -1);
+    }
+
+    /**
+     * Get a skill ID by its dense index
+     */
+    public static ResourceLocation getId(int index) {
+        return index >= 0 && index < SKILL_IDS.length ? SKILL_IDS[index] : null;
+    }
+
+    /**
+     * Number of registered skills - the size of per-player skill arrays
+     */
+    public static int getSkillCount() {
+        return SKILL_IDS.length;
+    }
+
     /**
      * Get all registered skills
      */
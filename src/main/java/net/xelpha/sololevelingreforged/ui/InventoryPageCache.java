@@ -0,0 +1,186 @@
+package net.xelpha.sololevelingreforged.ui;
+
+import net.minecraft.world.item.ItemStack;
+import net.xelpha.sololevelingreforged.core.InventorySortMode;
+import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
+import net.xelpha.sololevelingreforged.network.RequestInventoryPagePacket;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Client-side cache of System Inventory pages
+ * Only the pages the InventoryTab is about to show are requested from the server;
+ * everything is dropped when the server reports a new inventory version or the sort order changes
+ */
+public class InventoryPageCache {
+
+    private static final InventoryPageCache INSTANCE = new InventoryPageCache();
+
+    private static final int PAGE_SIZE = RequestInventoryPagePacket.PAGE_SIZE;
+    private static final long REQUEST_TIMEOUT_MS = 2000; // Re-ask for pages whose request was dropped
+
+    private int version = -1;
+    private int totalSize = 0;
+    private InventorySortMode sortMode = InventorySortMode.NONE;
+    private boolean ascending = true;
+
+    // View position -> entry, null until the page arrives
+    // Stacks are single items for rendering, the real (long) counts sit alongside
+    private ItemStack[] stacks = new ItemStack[0];
+    private long[] counts = new long[0];
+    private int[] slots = new int[0];
+    private final BitSet loadedPages = new BitSet();
+    private final BitSet requestedPages = new BitSet();
+    private long lastRequestTime = 0;
+
+    public static InventoryPageCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Called when a capability sync carries the inventory header
+     */
+    public void onHeader(int version, int totalSize) {
+        if (version != this.version) {
+            reset(version, totalSize);
+        } else {
+            resize(totalSize);
+        }
+    }
+
+    /**
+     * Forget everything - called when the client leaves a server
+     * Inventory versions restart at 0 each session, so old pages could otherwise match a new header
+     */
+    public void reset() {
+        sortMode = InventorySortMode.NONE;
+        ascending = true;
+        reset(-1, 0);
+    }
+
+    /**
+     * Change the sort order - cached pages are in the old order so they are dropped
+     */
+    public void setSort(InventorySortMode sortMode, boolean ascending) {
+        if (this.sortMode != sortMode || this.ascending != ascending) {
+            this.sortMode = sortMode;
+            this.ascending = ascending;
+            reset(version, totalSize);
+        }
+    }
+
+    /**
+     * Make sure the given range of view positions is loaded or on its way
+     * @param start First view position needed (may be negative when prefetching before the top)
+     * @param count Number of positions needed
+     */
+    public void ensureLoaded(int start, int count) {
+        if (totalSize == 0 || count <= 0) return;
+
+        // The server drops requests over its rate limit, so outstanding ones don't block forever
+        if (!requestedPages.isEmpty() && System.currentTimeMillis() - lastRequestTime > REQUEST_TIMEOUT_MS) {
+            requestedPages.clear();
+        }
+
+        int firstPage = Math.max(0, start) / PAGE_SIZE;
+        int lastPage = Math.min(totalSize - 1, start + count - 1) / PAGE_SIZE;
+
+        // Request contiguous runs of missing pages in as few packets as possible
+        int runStart = -1;
+        for (int page = firstPage; page <= lastPage + 1; page++) {
+            boolean missing = page <= lastPage && !loadedPages.get(page) && !requestedPages.get(page);
+            if (missing && runStart < 0) {
+                runStart = page;
+            }
+            boolean runFull = runStart >= 0 && page - runStart >= RequestInventoryPagePacket.MAX_PAGES_PER_REQUEST;
+            if (runStart >= 0 && (!missing || runFull)) {
+                int runLength = page - runStart;
+                requestedPages.set(runStart, page);
+                lastRequestTime = System.currentTimeMillis();
+                ModNetworkRegistry.CHANNEL.sendToServer(
+                    new RequestInventoryPagePacket(runStart, runLength, sortMode, ascending));
+                runStart = missing ? page : -1;
+            }
+        }
+    }
+
+    /**
+     * Store a page received from the server
+     */
+    public void acceptPage(int version, int totalSize, InventorySortMode sortMode, boolean ascending,
+                           int start, int[] pageSlots, List<ItemStack> pageStacks, long[] pageCounts) {
+        if (sortMode != this.sortMode || ascending != this.ascending) {
+            return; // Requested before the sort order changed
+        }
+        if (version != this.version) {
+            reset(version, totalSize);
+        } else {
+            resize(totalSize);
+        }
+
+        for (int i = 0; i < pageSlots.length; i++) {
+            int position = start + i;
+            if (position < this.totalSize) {
+                stacks[position] = pageStacks.get(i);
+                counts[position] = pageCounts[i];
+                slots[position] = pageSlots[i];
+            }
+        }
+
+        int firstPage = start / PAGE_SIZE;
+        int pages = (pageSlots.length + PAGE_SIZE - 1) / PAGE_SIZE;
+        loadedPages.set(firstPage, firstPage + Math.max(1, pages));
+        requestedPages.clear(firstPage, firstPage + Math.max(1, pages));
+
+        SystemConsoleScreen screen = SystemConsoleScreen.getOpenScreen();
+        if (screen != null) {
+            screen.forceRefresh();
+        }
+    }
+
+    /**
+     * @return The stack shown at a view position, or null if its page hasn't arrived yet
+     */
+    public ItemStack getStack(int position) {
+        return position >= 0 && position < totalSize ? stacks[position] : null;
+    }
+
+    /**
+     * @return The stored amount at a view position, or 0 if its page hasn't arrived yet
+     */
+    public long getCount(int position) {
+        return position >= 0 && position < totalSize ? counts[position] : 0;
+    }
+
+    /**
+     * @return The real inventory slot behind a view position
+     */
+    public int getSlot(int position) {
+        return position >= 0 && position < totalSize ? slots[position] : -1;
+    }
+
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    private void reset(int version, int totalSize) {
+        this.version = version;
+        this.totalSize = totalSize;
+        this.stacks = new ItemStack[totalSize];
+        this.counts = new long[totalSize];
+        this.slots = new int[totalSize];
+        loadedPages.clear();
+        requestedPages.clear();
+    }
+
+    private void resize(int totalSize) {
+        if (totalSize != this.totalSize) {
+            reset(version, totalSize);
+        }
+    }
+}
@@ -486,7 +486,17 @@ public class SystemConsoleScreen extends Screen {
         
         super.onClose();
     }
-    
+
+    @Override
+    public void removed() {
+        // Let the active tab send anything it's still holding (e.g. batched stat allocations)
+        if (activeTabIndex >= 0 && activeTabIndex < tabs.size()) {
+            tabs.get(activeTabIndex).onTabDeactivated();
+        }
+
+        super.removed();
+    }
+
     @Override
     public boolean isPauseScreen() {
         return false;
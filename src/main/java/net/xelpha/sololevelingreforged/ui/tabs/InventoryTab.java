@@ -5,15 +5,19 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.registries.ForgeRegistries;
+import net.xelpha.sololevelingreforged.core.InventorySortMode;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
 import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
+import net.xelpha.sololevelingreforged.network.StoreItemPacket;
 import net.xelpha.sololevelingreforged.network.WithdrawItemPacket;
+import net.xelpha.sololevelingreforged.ui.InventoryPageCache;
 import net.xelpha.sololevelingreforged.ui.components.SLButton;
 import net.xelpha.sololevelingreforged.ui.components.SLPanel;
 import net.xelpha.sololevelingreforged.ui.core.UIAnimator;
@@ -21,9 +25,8 @@ import net.xelpha.sololevelingreforged.ui.core.UIColors;
 import net.xelpha.sololevelingreforged.ui.core.UIRenderer;
 import org.joml.Quaternionf;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * System Inventory Tab - Solo Leveling dimensional storage
@@ -32,6 +35,8 @@ import java.util.List;
  * - Unlimited stack sizes (system storage)
  * - Sorting by name, amount, mod ID
  * - Large 3D item preview
+ * - Bulk store/withdraw (Store All, Store Matching, Ctrl+click to mark slots)
+ * - Contents are streamed from the server one page at a time (see InventoryPageCache)
  */
 public class InventoryTab extends BaseTab {
     
@@ -40,6 +45,7 @@ public class InventoryTab extends BaseTab {
     private static final int SLOT_SPACING = 2;
     private static final int GRID_COLS = 7;
     private static final int GRID_ROWS = 5;
+    private static final int PREFETCH_SLOTS = GRID_COLS * GRID_ROWS; // One extra screen above and below
     
     // Panels
     private SLPanel inventoryPanel;
@@ -51,14 +57,21 @@ public class InventoryTab extends BaseTab {
     private SLButton sortAmountBtn;
     private SLButton sortModBtn;
     
+    // Bulk transfer buttons
+    private SLButton storeAllBtn;
+    private SLButton storeMatchingBtn;
+    private SLButton takeMarkedBtn;
+    
     // State
     private int selectedIndex = -1;
+    private final Set<Integer> markedSlots = new LinkedHashSet<>(); // Real slots marked for a bulk withdraw
+    private int markedVersion = -1; // Inventory version the marked slots belong to
     private int hoveredIndex = -1;
     private int scrollOffset = 0;
     private long animationTick = 0;
     
-    // Sorting
-    private SortMode currentSort = SortMode.NONE;
+    // Sorting (applied server-side so pages come back in display order)
+    private InventorySortMode currentSort = InventorySortMode.NONE;
     private boolean sortAscending = true;
     
     // 3D Item Preview
@@ -66,10 +79,8 @@ public class InventoryTab extends BaseTab {
     private boolean draggingItem = false;
     private double lastMouseX;
     
-    // Cached inventory for display
-    private List<ItemStack> displayedItems = new ArrayList<>();
-    
-    private enum SortMode { NONE, NAME, AMOUNT, MOD_ID }
+    // Paged inventory contents for display
+    private final InventoryPageCache pageCache = InventoryPageCache.get();
     
     public InventoryTab(int x, int y, int width, int height) {
         super(x, y, width, height);
@@ -97,18 +108,33 @@ public class InventoryTab extends BaseTab {
         int btnSpacing = 4;
         int sortStartX = infoPanel.getX() + 12;
         
-        sortNameBtn = new SLButton(sortStartX, btnY, btnWidth, 16, "Name", btn -> applySorting(SortMode.NAME));
+        sortNameBtn = new SLButton(sortStartX, btnY, btnWidth, 16, "Name", btn -> applySorting(InventorySortMode.NAME));
         sortNameBtn.withStyle(SLButton.Style.SECONDARY);
         addComponent(sortNameBtn);
         
-        sortAmountBtn = new SLButton(sortStartX + btnWidth + btnSpacing, btnY, btnWidth, 16, "Amount", btn -> applySorting(SortMode.AMOUNT));
+        sortAmountBtn = new SLButton(sortStartX + btnWidth + btnSpacing, btnY, btnWidth, 16, "Amount", btn -> applySorting(InventorySortMode.AMOUNT));
         sortAmountBtn.withStyle(SLButton.Style.SECONDARY);
         addComponent(sortAmountBtn);
         
-        sortModBtn = new SLButton(sortStartX + (btnWidth + btnSpacing) * 2, btnY, btnWidth, 16, "Mod", btn -> applySorting(SortMode.MOD_ID));
+        sortModBtn = new SLButton(sortStartX + (btnWidth + btnSpacing) * 2, btnY, btnWidth, 16, "Mod", btn -> applySorting(InventorySortMode.MOD_ID));
         sortModBtn.withStyle(SLButton.Style.SECONDARY);
         addComponent(sortModBtn);
         
+        // Bulk transfer buttons (right side)
+        int bulkStartX = infoPanel.getX() + infoPanel.getWidth() - 12 - btnWidth * 3 - btnSpacing * 2;
+        
+        storeAllBtn = new SLButton(bulkStartX, btnY, btnWidth, 16, "Store All", btn -> storeItems(StoreItemPacket.Mode.ALL));
+        storeAllBtn.withStyle(SLButton.Style.SECONDARY);
+        addComponent(storeAllBtn);
+        
+        storeMatchingBtn = new SLButton(bulkStartX + btnWidth + btnSpacing, btnY, btnWidth, 16, "Matching", btn -> storeItems(StoreItemPacket.Mode.MATCHING));
+        storeMatchingBtn.withStyle(SLButton.Style.SECONDARY);
+        addComponent(storeMatchingBtn);
+        
+        takeMarkedBtn = new SLButton(bulkStartX + (btnWidth + btnSpacing) * 2, btnY, btnWidth, 16, "Take", btn -> withdrawMarked());
+        takeMarkedBtn.withStyle(SLButton.Style.SECONDARY);
+        addComponent(takeMarkedBtn);
+        
         // Main inventory grid (left/center)
         int gridPanelWidth = (int)(width * 0.60);
         int gridPanelY = y + padding + infoPanelHeight + padding;
@@ -130,46 +156,36 @@ public class InventoryTab extends BaseTab {
         addComponent(detailsPanel);
     }
     
-    private void applySorting(SortMode mode) {
+    private void applySorting(InventorySortMode mode) {
         if (currentSort == mode) {
             sortAscending = !sortAscending; // Toggle direction
         } else {
             currentSort = mode;
             sortAscending = true;
         }
-        sortInventory();
-    }
-    
-    private void sortInventory() {
-        if (currentSort == SortMode.NONE || displayedItems.isEmpty()) return;
-        
-        Comparator<ItemStack> comparator = switch (currentSort) {
-            case NAME -> Comparator.comparing(s -> s.getHoverName().getString());
-            case AMOUNT -> Comparator.comparingInt(ItemStack::getCount);
-            case MOD_ID -> Comparator.comparing(s -> {
-                var key = ForgeRegistries.ITEMS.getKey(s.getItem());
-                return key != null ? key.getNamespace() : "";
-            });
-            default -> null;
-        };
-        
-        if (comparator != null) {
-            if (!sortAscending) {
-                comparator = comparator.reversed();
-            }
-            displayedItems.sort(comparator);
-        }
+        pageCache.setSort(currentSort, sortAscending);
+        selectedIndex = -1;
+        markedSlots.clear();
+        requestVisibleWindow();
     }
     
     @Override
     public void updateData(PlayerCapability capability) {
         this.capability = capability;
         if (capability != null) {
-            displayedItems = new ArrayList<>(capability.getSystemInventory());
-            sortInventory(); // Re-apply current sort
+            pageCache.setSort(currentSort, sortAscending);
+            requestVisibleWindow();
         }
     }
     
+    /**
+     * Ask the server for the pages on screen plus a screen of prefetch on either side
+     */
+    private void requestVisibleWindow() {
+        int start = scrollOffset * GRID_COLS;
+        pageCache.ensureLoaded(start - PREFETCH_SLOTS, GRID_COLS * GRID_ROWS + PREFETCH_SLOTS * 2);
+    }
+    
     @Override
     public void tick() {
         super.tick();
@@ -223,7 +239,7 @@ public class InventoryTab extends BaseTab {
             UIRenderer.drawText(graphics, goldText, goldX, infoY, UIColors.TERTIARY);
             
             // Sort indicator
-            if (currentSort != SortMode.NONE) {
+            if (currentSort != InventorySortMode.NONE) {
                 String sortText = "Sorted: " + currentSort.name() + (sortAscending ? " ↑" : " ↓");
                 int sortX = infoX + 200;
                 UIRenderer.drawText(graphics, sortText, sortX, infoY, UIColors.PRIMARY_DIM);
@@ -237,7 +253,9 @@ public class InventoryTab extends BaseTab {
         
         int visibleSlots = GRID_COLS * GRID_ROWS;
         int startIndex = scrollOffset * GRID_COLS;
-        int endIndex = Math.min(startIndex + visibleSlots, displayedItems.size());
+        int totalItems = pageCache.getTotalSize();
+        int endIndex = Math.min(startIndex + visibleSlots, totalItems);
+        dropStaleMarks();
         
         for (int i = startIndex; i < endIndex; i++) {
             int localIndex = i - startIndex;
@@ -247,13 +265,18 @@ public class InventoryTab extends BaseTab {
             int slotX = startX + col * (SLOT_SIZE + SLOT_SPACING);
             int slotY = startY + row * (SLOT_SIZE + SLOT_SPACING);
             
-            ItemStack stack = displayedItems.get(i);
+            ItemStack stack = pageCache.getStack(i);
+            if (stack == null) {
+                // Page still on its way from the server
+                renderEmptySlot(graphics, slotX, slotY);
+                continue;
+            }
             boolean hovered = UIRenderer.isMouseOver(mouseX, mouseY, slotX, slotY, SLOT_SIZE, SLOT_SIZE);
-            boolean selected = selectedIndex == i;
+            boolean selected = selectedIndex == i || markedSlots.contains(pageCache.getSlot(i));
             
             if (hovered) hoveredIndex = i;
             
-            renderInventorySlot(graphics, slotX, slotY, stack, hovered, selected);
+            renderInventorySlot(graphics, slotX, slotY, stack, pageCache.getCount(i), hovered, selected);
         }
         
         // Empty slots
@@ -266,8 +289,8 @@ public class InventoryTab extends BaseTab {
         }
         
         // Scroll indicator
-        if (displayedItems.size() > visibleSlots) {
-            int totalRows = (displayedItems.size() + GRID_COLS - 1) / GRID_COLS;
+        if (totalItems > visibleSlots) {
+            int totalRows = (totalItems + GRID_COLS - 1) / GRID_COLS;
             int visibleRows = GRID_ROWS;
             float scrollProgress = (float) scrollOffset / Math.max(1, totalRows - visibleRows);
             
@@ -282,7 +305,7 @@ public class InventoryTab extends BaseTab {
         }
     }
     
-    private void renderInventorySlot(GuiGraphics graphics, int x, int y, ItemStack stack, 
+    private void renderInventorySlot(GuiGraphics graphics, int x, int y, ItemStack stack, long amount,
                                      boolean hovered, boolean selected) {
         int bgColor = selected ? UIColors.BG_ACTIVE : (hovered ? UIColors.BG_HOVER : UIColors.BG_HEADER);
         UIRenderer.fill(graphics, x, y, SLOT_SIZE, SLOT_SIZE, bgColor);
@@ -303,8 +326,8 @@ public class InventoryTab extends BaseTab {
             graphics.renderItem(stack, itemX, itemY);
             
             // Stack count (supports >64)
-            if (stack.getCount() > 1) {
-                String count = formatStackCount(stack.getCount());
+            if (amount > 1) {
+                String count = formatStackCount(amount);
                 int countX = x + SLOT_SIZE - UIRenderer.getTextWidth(count) - 2;
                 UIRenderer.drawText(graphics, count, countX, y + SLOT_SIZE - 10, UIColors.TEXT);
             }
@@ -318,7 +341,8 @@ public class InventoryTab extends BaseTab {
         }
     }
     
-    private String formatStackCount(int count) {
+    private String formatStackCount(long count) {
+        if (count >= 1000000000) return String.format("%.1fB", count / 1000000000.0);
         if (count >= 1000000) return String.format("%.1fM", count / 1000000.0);
         if (count >= 10000) return String.format("%.1fK", count / 1000.0);
         if (count >= 1000) return String.format("%.1fK", count / 1000.0);
@@ -337,9 +361,8 @@ public class InventoryTab extends BaseTab {
     private void renderItemDetails(GuiGraphics graphics, int mouseX, int mouseY) {
         int displayIndex = selectedIndex >= 0 ? selectedIndex : hoveredIndex;
         
-        if (displayIndex >= 0 && displayIndex < displayedItems.size()) {
-            ItemStack stack = displayedItems.get(displayIndex);
-            
+        ItemStack stack = pageCache.getStack(displayIndex);
+        if (stack != null) {
             if (!stack.isEmpty()) {
                 // Large 3D item preview - centered in panel
                 renderLargeItemPreview(graphics, stack);
@@ -360,7 +383,7 @@ public class InventoryTab extends BaseTab {
                 
                 // Details
                 UIRenderer.drawText(graphics, getItemType(stack), detailX, detailY + 22, UIColors.TEXT_SECONDARY);
-                UIRenderer.drawText(graphics, "Quantity: " + formatNumber(stack.getCount()), detailX, detailY + 36, UIColors.TEXT_SECONDARY);
+                UIRenderer.drawText(graphics, "Quantity: " + formatNumber(pageCache.getCount(displayIndex)), detailX, detailY + 36, UIColors.TEXT_SECONDARY);
                 UIRenderer.drawText(graphics, "Rarity: " + getRarityText(stack), detailX, detailY + 50, rarityColor);
                 
                 // Mod ID
@@ -472,7 +495,7 @@ public class InventoryTab extends BaseTab {
     }
     
     private void renderHints(GuiGraphics graphics) {
-        if (displayedItems.isEmpty()) {
+        if (pageCache.getTotalSize() == 0) {
             int centerX = inventoryPanel.getX() + inventoryPanel.getWidth() / 2;
             int centerY = inventoryPanel.getContentStartY() + 60;
             UIRenderer.drawCenteredText(graphics, "Your System Inventory is empty", centerX, centerY, UIColors.TEXT_MUTED);
@@ -522,7 +545,8 @@ public class InventoryTab extends BaseTab {
         return "Item";
     }
     
-    private String formatNumber(int number) {
+    private String formatNumber(long number) {
+        if (number >= 1000000000) return String.format("%.1fB", number / 1000000000.0);
         if (number >= 1000000) return String.format("%.1fM", number / 1000000.0);
         if (number >= 1000) return String.format("%.1fK", number / 1000.0);
         return String.valueOf(number);
@@ -541,17 +565,31 @@ public class InventoryTab extends BaseTab {
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
         if (button == 0 && isMouseOver3DPreview((int) mouseX, (int) mouseY)) {
             int displayIndex = selectedIndex >= 0 ? selectedIndex : hoveredIndex;
-            if (displayIndex >= 0 && displayIndex < displayedItems.size()) {
+            if (pageCache.getStack(displayIndex) != null) {
                 draggingItem = true;
                 lastMouseX = mouseX;
                 return true;
             }
         }
         
+        if (button == 0 && hoveredIndex >= 0 && Screen.hasControlDown()) {
+            // Ctrl+click marks slots for one bulk withdraw
+            int slot = pageCache.getSlot(hoveredIndex);
+            dropStaleMarks();
+            if (markedSlots.isEmpty()) {
+                markedVersion = pageCache.getVersion();
+            }
+            if (slot >= 0 && !markedSlots.remove(slot)) {
+                markedSlots.add(slot);
+            }
+            return true;
+        }
+        
         if (button == 0 && hoveredIndex >= 0) {
             long currentTime = System.currentTimeMillis();
             if (hoveredIndex == lastClickIndex && currentTime - lastClickTime < 400) {
-                withdrawItem(hoveredIndex);
+                // Double-click takes one stack, Shift+double-click takes everything stored
+                withdrawItem(hoveredIndex, Screen.hasShiftDown());
                 selectedIndex = -1;
                 lastClickIndex = -1;
             } else {
@@ -588,23 +626,60 @@ public class InventoryTab extends BaseTab {
     
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double delta) {
-        if (displayedItems.size() > GRID_COLS * GRID_ROWS) {
-            int totalRows = (displayedItems.size() + GRID_COLS - 1) / GRID_COLS;
+        int totalItems = pageCache.getTotalSize();
+        if (totalItems > GRID_COLS * GRID_ROWS) {
+            int totalRows = (totalItems + GRID_COLS - 1) / GRID_COLS;
             int maxScroll = Math.max(0, totalRows - GRID_ROWS);
             scrollOffset = (int) Math.max(0, Math.min(maxScroll, scrollOffset - delta));
+            requestVisibleWindow();
             return true;
         }
         return super.mouseScrolled(mouseX, mouseY, delta);
     }
     
-    private void withdrawItem(int index) {
-        if (index >= 0 && index < displayedItems.size()) {
-            ModNetworkRegistry.CHANNEL.sendToServer(new WithdrawItemPacket(index));
-            LocalPlayer player = Minecraft.getInstance().player;
-            if (player != null) {
-                player.displayClientMessage(
-                    net.minecraft.network.chat.Component.literal("§b[System] §7Withdrawing item..."), true);
-            }
+    private void withdrawItem(int index, boolean wholeEntry) {
+        int slot = pageCache.getSlot(index);
+        ItemStack stack = pageCache.getStack(index);
+        if (slot >= 0 && stack != null) {
+            // Send the real slot (the view may be sorted) and the version it was read from
+            long amount = wholeEntry ? Long.MAX_VALUE : stack.getMaxStackSize();
+            sendWithdraw(new int[] { slot }, amount);
+        }
+    }
+    
+    private void withdrawMarked() {
+        if (markedSlots.isEmpty()) return;
+        
+        // Sent with the version the slots were marked at, so the server refuses them if the inventory moved since
+        int[] slots = markedSlots.stream().mapToInt(Integer::intValue).toArray();
+        markedSlots.clear();
+        sendWithdraw(slots, Long.MAX_VALUE, markedVersion);
+    }
+
+    /**
+     * Marked slots are real slot indices - once the inventory changes they may point at other entries
+     */
+    private void dropStaleMarks() {
+        if (!markedSlots.isEmpty() && markedVersion != pageCache.getVersion()) {
+            markedSlots.clear();
+        }
+    }
+    
+    private void sendWithdraw(int[] slots, long amount) {
+        sendWithdraw(slots, amount, pageCache.getVersion());
+    }
+
+    private void sendWithdraw(int[] slots, long amount, int version) {
+        ModNetworkRegistry.CHANNEL.sendToServer(new WithdrawItemPacket(slots, amount, version));
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player != null) {
+            player.displayClientMessage(
+                net.minecraft.network.chat.Component.literal("§b[System] §7Withdrawing item..."), true);
         }
     }
+    
+    private void storeItems(StoreItemPacket.Mode mode) {
+        markedSlots.clear(); // Storing new items can shift slots
+        ModNetworkRegistry.CHANNEL.sendToServer(new StoreItemPacket(mode));
+    }
 }
@@ -242,7 +242,7 @@ public class SkillsTab extends BaseTab {
 
         // Cooldown indicator for active skills
         if (isActive && skill.skill != null && skill.isLearned) {
-            float cooldownProgress = skill.skill.getCooldownProgress();
+            float cooldownProgress = capability.getCooldownProgress(skill.skill.getId());
             if (cooldownProgress < 1.0f) {
                 // Draw cooldown overlay
                 int overlayHeight = (int) (SKILL_SLOT_SIZE * (1.0f - cooldownProgress));
@@ -250,7 +250,7 @@ public class SkillsTab extends BaseTab {
                 UIRenderer.fill(graphics, x + 1, y + 1, SKILL_SLOT_SIZE - 2, overlayHeight, cooldownColor);
 
                 // Cooldown text
-                String cdText = String.format("%.1fs", skill.skill.getRemainingCooldownTicks() / 20.0f);
+                String cdText = String.format("%.1fs", capability.getRemainingCooldownTicks(skill.skill.getId()) / 20.0f);
                 UIRenderer.drawCenteredText(graphics, cdText, x + SKILL_SLOT_SIZE / 2,
                                            y + SKILL_SLOT_SIZE / 2 - 4, UIColors.TEXT_WARNING);
             }
@@ -5,7 +5,9 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.inventory.InventoryScreen;
 import net.minecraft.client.player.LocalPlayer;
 import net.xelpha.sololevelingreforged.core.PlayerCapability;
+import net.xelpha.sololevelingreforged.core.Stat;
 import net.xelpha.sololevelingreforged.network.AllocateStatPacket;
+import net.xelpha.sololevelingreforged.network.NetworkIdTable;
 import net.xelpha.sololevelingreforged.network.ModNetworkRegistry;
 import net.xelpha.sololevelingreforged.ui.components.SLPanel;
 import net.xelpha.sololevelingreforged.ui.components.SLProgressBar;
@@ -14,6 +16,7 @@ import net.xelpha.sololevelingreforged.ui.core.UIAnimator;
 import net.xelpha.sololevelingreforged.ui.core.UIColors;
 import net.xelpha.sololevelingreforged.ui.core.UIRenderer;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -26,6 +29,8 @@ public class StatusTab extends BaseTab {
     // Layout constants
     private static final int PLAYER_PANEL_WIDTH = 160;
     private static final int STATS_PANEL_MARGIN = 12;
+    private static final int ALLOCATE_BATCH_TICKS = 5; // Idle ticks before pending clicks are sent
+    private static final int IN_FLIGHT_TIMEOUT_TICKS = 40; // Give up on a batch the server never answered
     
     // Components
     private SLPanel playerPanel;
@@ -37,6 +42,17 @@ public class StatusTab extends BaseTab {
     
     private final Map<String, SLStatDisplay> statDisplays = new LinkedHashMap<>();
     
+    // Clicked but not yet sent stat points, indexed by Stat ordinal
+    private final int[] pendingAllocations = new int[Stat.values().length];
+    private int pendingTotal = 0;
+    private long lastAllocateTick = 0;
+
+    // Sent but not yet confirmed stat points - still shown until the server's core update arrives
+    private final int[] inFlightAllocations = new int[Stat.values().length];
+    private int inFlightTotal = 0;
+    private int inFlightCoreUpdates; // Capability core update count when the batch was sent
+    private long inFlightTick = 0;
+    
     // Player model rendering
     private LocalPlayer player;
     private float modelRotation = 0;
@@ -140,18 +156,84 @@ public class StatusTab extends BaseTab {
         xpBar.withCustomText("Level " + capability.getLevel() + " - " + 
             capability.getExperience() + "/" + capability.getExperienceToNext() + " XP");
         
-        // Update stat displays
-        boolean hasAP = capability.getAvailableAP() > 0;
+        updateStatDisplays();
+    }
+    
+    /**
+     * Shows stat values and AP with the pending and in-flight allocations already applied
+     */
+    private void updateStatDisplays() {
+        if (capability == null) return;
+        confirmInFlightAllocations();
+        
+        boolean hasAP = getRemainingAP() > 0;
         
         for (Map.Entry<String, SLStatDisplay> entry : statDisplays.entrySet()) {
-            int value = capability.getStatValue(entry.getKey());
-            entry.getValue().setValue(value);
+            Stat stat = Stat.byKey(entry.getKey());
+            int pending = stat != null ? pendingAllocations[stat.ordinal()] + inFlightAllocations[stat.ordinal()] : 0;
+            entry.getValue().setValue(capability.getStatValue(entry.getKey()) + pending);
             entry.getValue().setCanAllocate(hasAP);
         }
     }
     
+    private int getRemainingAP() {
+        return capability != null ? capability.getAvailableAP() - pendingTotal - inFlightTotal : 0;
+    }
+    
     private void onStatAllocate(String statKey) {
-        ModNetworkRegistry.CHANNEL.sendToServer(new AllocateStatPacket(statKey));
+        Stat stat = Stat.byKey(statKey);
+        if (stat == null || NetworkIdTable.getStatId(stat) < 0 || getRemainingAP() <= 0) return;
+        
+        // Accumulate the click; it's sent once the player stops clicking
+        pendingAllocations[stat.ordinal()]++;
+        pendingTotal++;
+        lastAllocateTick = animationTick;
+        updateStatDisplays();
+    }
+    
+    /**
+     * Sends all pending allocations as one batch packet
+     */
+    private void flushPendingAllocations() {
+        if (pendingTotal == 0) return;
+        
+        int[] increments = new int[NetworkIdTable.getStatCount()];
+        for (Stat stat : Stat.values()) {
+            int statId = NetworkIdTable.getStatId(stat);
+            if (statId >= 0 && statId < increments.length) {
+                increments[statId] = pendingAllocations[stat.ordinal()];
+            }
+        }
+        ModNetworkRegistry.CHANNEL.sendToServer(new AllocateStatPacket(increments));
+        
+        // Keep showing the points until the capability update that answers this brings the authoritative values
+        for (int i = 0; i < pendingAllocations.length; i++) {
+            inFlightAllocations[i] += pendingAllocations[i];
+        }
+        inFlightTotal += pendingTotal;
+        if (capability != null) {
+            inFlightCoreUpdates = capability.getCoreUpdates();
+        }
+        inFlightTick = animationTick;
+        Arrays.fill(pendingAllocations, 0);
+        pendingTotal = 0;
+    }
+
+    /**
+     * Drop the in-flight points once server core data has arrived since they were sent (or it never came)
+     */
+    private void confirmInFlightAllocations() {
+        if (inFlightTotal == 0) return;
+        if (capability.getCoreUpdates() != inFlightCoreUpdates
+                || animationTick - inFlightTick >= IN_FLIGHT_TIMEOUT_TICKS) {
+            Arrays.fill(inFlightAllocations, 0);
+            inFlightTotal = 0;
+        }
+    }
+    
+    @Override
+    public void onTabDeactivated() {
+        flushPendingAllocations();
     }
     
     
@@ -160,6 +242,13 @@ public class StatusTab extends BaseTab {
         super.tick();
         animationTick++;
         
+        if (pendingTotal > 0 && animationTick - lastAllocateTick >= ALLOCATE_BATCH_TICKS) {
+            flushPendingAllocations();
+        }
+        if (inFlightTotal > 0) {
+            updateStatDisplays(); // Drops the in-flight points once confirmed or timed out
+        }
+        
         // Auto-rotate slowly when not dragging
         if (!draggingModel) {
             modelRotation = (float) Math.sin(animationTick * 0.015) * 20;
@@ -292,7 +381,7 @@ public class StatusTab extends BaseTab {
         UIRenderer.drawCenteredText(graphics, title, centerX, titleY + 14, UIColors.TEXT_SECONDARY);
         
         // AP indicator
-        int ap = capability.getAvailableAP();
+        int ap = getRemainingAP();
         int apY = playerPanel.getY() + playerPanel.getHeight() - 45;
         
         if (ap > 0) {